@@ -0,0 +1,140 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Parameters of different widths (number of properties) and nesting depths used by the benchmarks.
+ * <p>
+ * Each width is made of groups of four properties (a string, a number, a list and a date) plus a nested child of the
+ * same type. The depth is the number of nested children.
+ * </p>
+ */
+@NullMarked
+final class BenchmarkParameters {
+    private BenchmarkParameters() {
+    }
+
+    static Class<? extends Record> typeOf(int width) {
+        return switch (width) {
+            case 4 -> Width4.class;
+            case 8 -> Width8.class;
+            case 16 -> Width16.class;
+            default -> throw new IllegalArgumentException("Unsupported width: " + width);
+        };
+    }
+
+    /**
+     * Creates a valid parameter of the given type with the given number of nested children.
+     */
+    static Object create(Class<? extends Record> type, int depth) {
+        var components = type.getRecordComponents();
+        var arguments = new @Nullable Object[components.length];
+        var parameterTypes = new Class<?>[components.length];
+
+        for (var i = 0; i < components.length; i++) {
+            var componentType = components[i].getType();
+            parameterTypes[i] = componentType;
+            arguments[i] = valueOf(componentType, type, depth);
+        }
+
+        try {
+            return type.getDeclaredConstructor(parameterTypes).newInstance(arguments);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Error creating benchmark parameter: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Registers the rules matching the constraints of the given type.
+     */
+    static <R extends BaseRuleBuilder<R>> R rulesOf(Class<? extends Record> type, R ruleBuilder) {
+        var builder = ruleBuilder;
+        for (var component : type.getRecordComponents()) {
+            var name = component.getName();
+            var componentType = component.getType();
+
+            if (componentType == String.class) {
+                builder = builder.notBlank(name);
+            } else if (componentType == int.class) {
+                builder = builder.min(name, 1);
+            } else if (componentType == List.class) {
+                builder = builder.notNull(name).size(name).max(3);
+            } else if (componentType == LocalDate.class) {
+                builder = builder.notNull(name).past(name);
+            } else {
+                builder = builder.validBean(name).nullable(name);
+            }
+        }
+        return builder;
+    }
+
+    @Nullable
+    private static Object valueOf(Class<?> componentType, Class<? extends Record> type, int depth) {
+        if (componentType == String.class) {
+            return "value";
+        }
+        if (componentType == int.class) {
+            return 5;
+        }
+        if (componentType == List.class) {
+            return List.of("a", "b");
+        }
+        if (componentType == LocalDate.class) {
+            return LocalDate.EPOCH;
+        }
+        return depth > 0 ? create(type, depth - 1) : null;
+    }
+
+    record Width4(
+            @NotBlank String name0,
+            @Min(1) int count0,
+            @NotNull @Size(max = 3) List<String> tags0,
+            @NotNull @Past LocalDate date0,
+            @Valid @Nullable Width4 child
+    ) {
+    }
+
+    record Width8(
+            @NotBlank String name0,
+            @Min(1) int count0,
+            @NotNull @Size(max = 3) List<String> tags0,
+            @NotNull @Past LocalDate date0,
+            @NotBlank String name1,
+            @Min(1) int count1,
+            @NotNull @Size(max = 3) List<String> tags1,
+            @NotNull @Past LocalDate date1,
+            @Valid @Nullable Width8 child
+    ) {
+    }
+
+    record Width16(
+            @NotBlank String name0,
+            @Min(1) int count0,
+            @NotNull @Size(max = 3) List<String> tags0,
+            @NotNull @Past LocalDate date0,
+            @NotBlank String name1,
+            @Min(1) int count1,
+            @NotNull @Size(max = 3) List<String> tags1,
+            @NotNull @Past LocalDate date1,
+            @NotBlank String name2,
+            @Min(1) int count2,
+            @NotNull @Size(max = 3) List<String> tags2,
+            @NotNull @Past LocalDate date2,
+            @NotBlank String name3,
+            @Min(1) int count3,
+            @NotNull @Size(max = 3) List<String> tags3,
+            @NotNull @Past LocalDate date3,
+            @Valid @Nullable Width16 child
+    ) {
+    }
+}
@@ -0,0 +1,17 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+final class BenchmarkValidationAssert extends BaseValidationAssert<BenchmarkValidationAssert.BenchmarkRuleBuilder> {
+    private BenchmarkValidationAssert() {
+        super(new BenchmarkRuleBuilder());
+    }
+
+    static BenchmarkValidationAssert assertThatValidation() {
+        return new BenchmarkValidationAssert();
+    }
+
+    static final class BenchmarkRuleBuilder extends BaseRuleBuilder<BenchmarkRuleBuilder> {
+    }
+}
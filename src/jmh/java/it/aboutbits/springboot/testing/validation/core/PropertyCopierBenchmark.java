@@ -0,0 +1,97 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled {@link PropertyCopier} with the reflective copy that was used before
+ * ({@code Field.get} + {@code Constructor.newInstance} on every mutation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@NullMarked
+public class PropertyCopierBenchmark {
+    private static final int ALTERED_INDEX = 5;
+
+    private final Parameter original = new Parameter(
+            "name",
+            "surname",
+            42,
+            1_000L,
+            BigDecimal.TEN,
+            LocalDate.EPOCH,
+            List.of("a", "b"),
+            true,
+            "description",
+            7
+    );
+
+    private final ClassMetadata metadata = ClassMetadata.of(Parameter.class);
+    private final PropertyCopier copier = PropertyCopier.of(Parameter.class);
+
+    @Benchmark
+    public Object reflective() throws ReflectiveOperationException {
+        var values = new Object[metadata.propertyCount()];
+        var parameterTypes = new Class<?>[metadata.propertyCount()];
+        for (var i = 0; i < values.length; i++) {
+            var field = metadata.field(i);
+            field.setAccessible(true);
+            values[i] = i == ALTERED_INDEX ? LocalDate.MAX : field.get(original);
+            parameterTypes[i] = field.getType();
+        }
+
+        var constructor = Parameter.class.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return constructor.newInstance(values);
+    }
+
+    @Benchmark
+    public Object reflectiveWithCachedMetadata() throws ReflectiveOperationException {
+        var constructor = metadata.canonicalConstructor();
+        if (constructor == null) {
+            throw new IllegalStateException("No canonical constructor found.");
+        }
+
+        var values = new Object[metadata.propertyCount()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = i == ALTERED_INDEX ? LocalDate.MAX : metadata.field(i).get(original);
+        }
+        return constructor.newInstance(values);
+    }
+
+    @Benchmark
+    public Object methodHandle() {
+        return copier.withProperty(original, ALTERED_INDEX, LocalDate.MAX);
+    }
+
+    record Parameter(
+            String name,
+            String surname,
+            int age,
+            long points,
+            BigDecimal amount,
+            LocalDate birthday,
+            List<String> tags,
+            boolean active,
+            String description,
+            int level
+    ) {
+    }
+}
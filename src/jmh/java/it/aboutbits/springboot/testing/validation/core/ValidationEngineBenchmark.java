@@ -0,0 +1,94 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation engine for parameters of different widths and nesting depths, see
+ * {@link BenchmarkParameters}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@NullMarked
+@SuppressWarnings({"NullAway.Init", "java:S1104"}) // JMH injects the parameters into public fields and calls the setup
+public class ValidationEngineBenchmark {
+    @Param({"4", "8", "16"})
+    public int width;
+
+    @Param({"0", "2"})
+    public int depth;
+
+    private Class<? extends Record> type;
+    private Object parameter;
+    private List<Rule> rules;
+    private PropertyCopier copier;
+    private Validator validator;
+
+    @Setup
+    public void setup() {
+        type = BenchmarkParameters.typeOf(width);
+        parameter = BenchmarkParameters.create(type, depth);
+        rules = List.copyOf(
+                BenchmarkParameters.rulesOf(type, new BenchmarkValidationAssert.BenchmarkRuleBuilder()).getRules()
+        );
+        copier = PropertyCopier.of(type);
+        validator = DefaultValidatorProvider.INSTANCE.getValidator();
+    }
+
+    @Benchmark
+    public void isCompliantUsingBeanValidation() {
+        var ruleBuilder = BenchmarkValidationAssert.assertThatValidation()
+                .of(parameter)
+                .usingBeanValidation();
+
+        BenchmarkParameters.rulesOf(type, ruleBuilder).isCompliant();
+    }
+
+    @Benchmark
+    public void isCompliantUsingPropertyValidation() {
+        var ruleBuilder = BenchmarkValidationAssert.assertThatValidation()
+                .of(parameter)
+                .usingPropertyValidation();
+
+        BenchmarkParameters.rulesOf(type, ruleBuilder).isCompliant();
+    }
+
+    @Benchmark
+    public Object plan() {
+        return ValidationPlan.of(type, rules, Set.of(), validator);
+    }
+
+    @Benchmark
+    public Object copy() {
+        return copier.withProperty(parameter, 0, "altered");
+    }
+
+    @Benchmark
+    public Object validate() {
+        return validator.validate(parameter);
+    }
+
+    @Benchmark
+    public Object validateValue() {
+        return validator.validateValue(type, "name0", "");
+    }
+}
@@ -0,0 +1,84 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.BiggerThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.BlankValueSource;
+import it.aboutbits.springboot.testing.validation.source.EmptyValueSource;
+import it.aboutbits.springboot.testing.validation.source.FutureValueSource;
+import it.aboutbits.springboot.testing.validation.source.LessThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.LongerThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.NullValueSource;
+import it.aboutbits.springboot.testing.validation.source.PastValueSource;
+import it.aboutbits.springboot.testing.validation.source.ShorterThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.SizeGreaterThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.SizeLessThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.ZeroValueSource;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the mutated values of each value source, including the registry lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@NullMarked
+@SuppressWarnings({"NullAway.Init", "java:S1104"}) // JMH injects the parameters into public fields and calls the setup
+public class ValueSourceBenchmark {
+    @Param
+    public Source source;
+
+    private ValueSource valueSource;
+
+    @Setup
+    public void setup() {
+        valueSource = ValueSourceRegistry.get(source.type);
+    }
+
+    @Benchmark
+    public List<?> values() {
+        return valueSource.values(source.propertyType, source.args).toList();
+    }
+
+    public enum Source {
+        BLANK(BlankValueSource.class, String.class),
+        NULL(NullValueSource.class, String.class),
+        EMPTY(EmptyValueSource.class, List.class),
+        ZERO(ZeroValueSource.class, BigDecimal.class),
+        LESS_THAN(LessThanValueSource.class, int.class, 5L),
+        BIGGER_THAN(BiggerThanValueSource.class, BigDecimal.class, 5L),
+        PAST(PastValueSource.class, LocalDate.class),
+        FUTURE(FutureValueSource.class, LocalDate.class),
+        SHORTER_THAN(ShorterThanValueSource.class, String.class, 8L),
+        LONGER_THAN(LongerThanValueSource.class, String.class, 64L),
+        SIZE_LESS_THAN(SizeLessThanValueSource.class, List.class, 8L),
+        SIZE_GREATER_THAN(SizeGreaterThanValueSource.class, List.class, 64L);
+
+        private final Class<? extends ValueSource> type;
+        private final Class<?> propertyType;
+        private final Object[] args;
+
+        Source(Class<? extends ValueSource> type, Class<?> propertyType, Object... args) {
+            this.type = type;
+            this.propertyType = propertyType;
+            this.args = args;
+        }
+    }
+}
@@ -4,13 +4,16 @@ import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @NullMarked
 public class BeanAccessor implements ApplicationContextAware {
     @Nullable
-    private static ApplicationContext applicationContext;
+    private static volatile ApplicationContext applicationContext;
 
     public static <T> T getBean(Class<T> clazz) {
         if (applicationContext == null) {
@@ -19,6 +22,29 @@ public class BeanAccessor implements ApplicationContextAware {
         return applicationContext.getBean(clazz);
     }
 
+    /**
+     * Look up a bean without failing if there is no application context or no unique bean of the given type.
+     * The context is also ignored once it was closed, e.g. after {@code @DirtiesContext} or when it was evicted from
+     * the context cache of the Spring test framework.
+     */
+    public static <T> Optional<T> findBean(Class<T> clazz) {
+        var context = applicationContext;
+        if (context == null || !isActive(context)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable(context.getBeanProvider(clazz).getIfUnique());
+        } catch (IllegalStateException _) {
+            // The context was closed concurrently
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isActive(ApplicationContext context) {
+        return !(context instanceof ConfigurableApplicationContext configurableContext) || configurableContext.isActive();
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         BeanAccessor.applicationContext = applicationContext;
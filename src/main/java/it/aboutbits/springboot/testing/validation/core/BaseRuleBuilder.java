@@ -1,5 +1,6 @@
 package it.aboutbits.springboot.testing.validation.core;
 
+import com.google.errorprone.annotations.CheckReturnValue;
 import it.aboutbits.springboot.testing.validation.rule.BetweenRule;
 import it.aboutbits.springboot.testing.validation.rule.FutureRule;
 import it.aboutbits.springboot.testing.validation.rule.MaxRule;
@@ -60,6 +61,12 @@ public abstract class BaseRuleBuilder<R extends BaseRuleBuilder<R>> implements
     @Getter(AccessLevel.PACKAGE)
     private final List<CustomValidationFunction> validationFunctions = new ArrayList<>();
 
+    @Getter(AccessLevel.PACKAGE)
+    private final List<CrossFieldMutation> crossFieldMutations = new ArrayList<>();
+
+    @Getter(AccessLevel.PACKAGE)
+    private boolean inferFromConstraints = false;
+
     @Setter(AccessLevel.PACKAGE)
     @Nullable
     private Runnable triggerValidation;
@@ -74,6 +81,23 @@ public abstract class BaseRuleBuilder<R extends BaseRuleBuilder<R>> implements
         validationFunctions.add(function);
     }
 
+    @Override
+    public void addCrossFieldMutation(CrossFieldMutation mutation) {
+        crossFieldMutations.add(mutation);
+    }
+
+    /**
+     * Derive the rules from the constraint annotations of the parameter class (e.g. @NotNull, @Size, @Min, @Future).
+     * Explicit rules replace all inferred rules of the same property. Properties without constraints are treated as
+     * not validated, properties with unsupported (e.g. custom) constraints still require explicit rules.
+     */
+    @SuppressWarnings("unchecked")
+    @CheckReturnValue
+    public R inferFromConstraints() {
+        this.inferFromConstraints = true;
+        return (R) this;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends BaseRuleBuilder<T>> T withAdditionalRules(Consumer<T> registrar) {
         var self = (T) this;
@@ -85,4 +109,14 @@ public abstract class BaseRuleBuilder<R extends BaseRuleBuilder<R>> implements
         Objects.requireNonNull(triggerValidation);
         triggerValidation.run();
     }
+
+    /**
+     * Removes all rules, validation functions and cross-field mutations, so the builder can be reused.
+     */
+    void clear() {
+        rules.clear();
+        validationFunctions.clear();
+        crossFieldMutations.clear();
+        inferFromConstraints = false;
+    }
 }
@@ -12,9 +12,13 @@ import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+import java.util.AbstractSet;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -26,12 +30,29 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
     @Getter(AccessLevel.PROTECTED)
     private final R ruleBuilder;
 
-    // This keeps track of classes that are not required to have a @Valid annotation.
-    protected static final Set<Class<?>> NON_BEAN_TYPES = new HashSet<>(
-            Set.of(
-                    CustomType.class
-            )
-    );
+    // This keeps track of classes that are not required to have a @Valid annotation (the values are unused).
+    private static final ScopedRegistry<Class<?>, Boolean> NON_BEAN_TYPE_REGISTRY = new ScopedRegistry<>();
+
+    /**
+     * A read-only view of the classes that are not required to have a @Valid annotation, as visible on the current
+     * thread (see {@link RegistryScope}).
+     *
+     * @deprecated The types are kept in a scoped registry, so this set can no longer be modified. Use
+     * {@link #registerNonBeanType(Class)} instead.
+     */
+    @Deprecated(forRemoval = true)
+    protected static final Set<Class<?>> NON_BEAN_TYPES = new NonBeanTypesView();
+
+    private static volatile ValidatorProvider validatorProvider = DefaultValidatorProvider.INSTANCE;
+
+    private static final List<ValidationListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    static {
+        NON_BEAN_TYPE_REGISTRY.registerGlobally(CustomType.class, true);
+
+        ValidationStatisticsSummary.registerIfEnabled();
+        ValidationReport.registerIfEnabled();
+    }
 
     @Nullable
     private Object parameterUnderTest;
@@ -40,14 +61,86 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
     @Nullable
     private Consumer<?> functionToCallWithParameter = null;
 
+    @Setter(AccessLevel.PRIVATE)
+    @Nullable
+    private ExecutableCall executableCall = null;
+
+    @Setter(AccessLevel.PRIVATE)
+    private ValidationMode validationMode = ValidationMode.BEAN_VALIDATION;
+
+    private boolean parallel = false;
+
+    @Nullable
+    private MutationSettings mutationSettings = null;
+
     /**
      * Configure a class that is not required to have a @Valid annotation. Sub-structures are assumed to always require @Valid.
+     * If called within a {@link RegistryScope} (see {@link ScopedRegistryExtension}), it only applies to that scope.
      *
      * @param type The class to whitelist.
      */
     @SuppressWarnings("unused")
     public static void registerNonBeanType(Class<?> type) {
-        NON_BEAN_TYPES.add(type);
+        NON_BEAN_TYPE_REGISTRY.register(type, true);
+    }
+
+    /**
+     * Check the mutations of all rules in parallel instead of one after another.
+     * All failures are collected and reported in the order of the rules.
+     * Only use this if the function under test (if any) can be called concurrently.
+     */
+    @SuppressWarnings("unused")
+    @CheckReturnValue
+    public BaseValidationAssert<R> inParallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Use the given mutation profile for this test, instead of the one of the test class or the system property.
+     */
+    @SuppressWarnings("unused")
+    @CheckReturnValue
+    public BaseValidationAssert<R> withProfile(MutationProfile profile) {
+        this.mutationSettings = new MutationSettings(profile, null);
+        return this;
+    }
+
+    /**
+     * Use the given mutation profile for this test and stop checking the additional samples of
+     * {@link MutationProfile#EXHAUSTIVE} (or stop fuzzing with {@link MutationProfile#FUZZ}) once the budget is exhausted.
+     */
+    @SuppressWarnings("unused")
+    @CheckReturnValue
+    public BaseValidationAssert<R> withProfile(MutationProfile profile, Duration budget) {
+        this.mutationSettings = new MutationSettings(profile, budget);
+        return this;
+    }
+
+    /**
+     * Configure how the validator used for bean validation is resolved.
+     * By default, the validator of the Spring application context is used if the BeanAccessor is enabled.
+     * Otherwise, a default validator factory is bootstrapped once.
+     *
+     * @param provider The provider to use.
+     */
+    @SuppressWarnings("unused")
+    public static void registerValidatorProvider(ValidatorProvider provider) {
+        validatorProvider = provider;
+    }
+
+    /**
+     * Register a listener that is notified with the statistics (number of mutations, time spent generating, copying
+     * and validating) of each checked rule. This can be used to find the rules that dominate the test duration.
+     * A summary of the whole test suite can also be logged using the system property
+     * {@code -Dvalidation.statistics.summary=true} or written as a JSON report using
+     * {@code -Dvalidation.report.file=<file>}.
+     *
+     * @param listener The listener to register.
+     */
+    @SuppressWarnings("unused")
+    public static void registerValidationListener(ValidationListener listener) {
+        LISTENERS.add(listener);
     }
 
     @CheckReturnValue
@@ -57,6 +150,48 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
         return new CallBuilder<>(this);
     }
 
+    /**
+     * Create an immutable spec of the rules for the given class, which can be checked for many valid fixtures.
+     * The rules, the configuration of this assert (profile, non-bean types, validators and listeners) and the current
+     * {@link RegistryScope} are captured when the spec is created, see {@link ValidationSpec}. The rule builder is
+     * cleared afterward, so the rules of the spec do not leak into later tests of this assert.
+     * <p>
+     * A spec always uses bean validation, use {@link ValidationSpec#usingPropertyValidation()} to only validate the
+     * mutated property. Calling a function or {@code validatingCall} is not supported.
+     * </p>
+     *
+     * @param parameterClass The class of the fixtures.
+     * @param rules          Adds the rules to the rule builder.
+     */
+    @SuppressWarnings("unused")
+    @CheckReturnValue
+    public <P> ValidationSpec<P> spec(Class<P> parameterClass, Consumer<R> rules) {
+        try {
+            rules.accept(ruleBuilder);
+
+            var validator = validatorProvider.getValidator();
+            var mutationValidator = validatorProvider.getMutationValidator();
+            return new ValidationSpec<>(
+                    parameterClass,
+                    ValidationMode.BEAN_VALIDATION,
+                    MutationSettings.resolve(mutationSettings),
+                    ruleBuilder.isInferFromConstraints()
+                            ? ConstraintRuleInference.merge(parameterClass, ruleBuilder.getRules(), mutationValidator)
+                            : ruleBuilder.getRules(),
+                    ruleBuilder.getValidationFunctions(),
+                    ruleBuilder.getCrossFieldMutations(),
+                    NON_BEAN_TYPE_REGISTRY.snapshot().keySet(),
+                    validator,
+                    mutationValidator,
+                    List.copyOf(LISTENERS),
+                    RegistryScope.current()
+            );
+        } finally {
+            // The spec copies the rules
+            ruleBuilder.clear();
+        }
+    }
+
     @SuppressWarnings("unused")
     @CheckReturnValue
     public AnnotationChecker calling(
@@ -67,6 +202,23 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
         return new AnnotationChecker(classUnderTest, methodName, methodParameterTypes);
     }
 
+    private static final class NonBeanTypesView extends AbstractSet<Class<?>> {
+        @Override
+        public Iterator<Class<?>> iterator() {
+            return NON_BEAN_TYPE_REGISTRY.snapshot().keySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return NON_BEAN_TYPE_REGISTRY.snapshot().size();
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            return o instanceof Class<?> type && NON_BEAN_TYPE_REGISTRY.get(type) != null;
+        }
+    }
+
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
     public static final class AnnotationChecker {
         private final Class<?> classUnderTest;
@@ -103,12 +255,54 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
         @CheckReturnValue
         public R calling(Consumer<P> functionToCallWithParameter) {
             parent.setFunctionToCallWithParameter(functionToCallWithParameter);
+            parent.setValidationMode(ValidationMode.FUNCTION_CALL);
+            return parent.ruleBuilder;
+        }
+
+        /**
+         * Validate the arguments of a method using the ExecutableValidator instead of calling it.
+         * The parameter under test is passed as the last argument, after the given leading arguments.
+         * The @Validated annotation of the class and the @Valid annotation of the parameter are checked once,
+         * the method itself is never invoked.
+         *
+         * @param target           The object declaring the method, Spring proxies are unwrapped.
+         * @param methodName       The name of the method.
+         * @param leadingArguments The arguments passed before the parameter under test, e.g. an ID. A single
+         *                         {@code null} is passed as a null argument.
+         */
+        @SuppressWarnings("unused")
+        @CheckReturnValue
+        public R validatingCall(Object target, String methodName, @Nullable Object @Nullable ... leadingArguments) {
+            var parameterUnderTest = parent.parameterUnderTest;
+            if (parameterUnderTest == null) {
+                throw new IllegalStateException("Parameter under test not set.");
+            }
+
+            parent.setFunctionToCallWithParameter(null);
+            parent.setExecutableCall(
+                    ExecutableCall.resolve(target, methodName, parameterUnderTest.getClass(), leadingArguments)
+            );
+            parent.setValidationMode(ValidationMode.EXECUTABLE_VALIDATION);
             return parent.ruleBuilder;
         }
 
         @SuppressWarnings("unused")
         @CheckReturnValue
         public R usingBeanValidation() {
+            parent.setValidationMode(ValidationMode.BEAN_VALIDATION);
+            return parent.ruleBuilder;
+        }
+
+        /**
+         * Use bean validation, but only validate the mutated property instead of the whole copy of the parameter.
+         * This avoids creating a copy and evaluating all unrelated (and cascaded) constraints for each mutation.
+         * A copy is still validated as a whole if the class declares class-level constraints or the mutated property
+         * is annotated with @Valid.
+         */
+        @SuppressWarnings("unused")
+        @CheckReturnValue
+        public R usingPropertyValidation() {
+            parent.setValidationMode(ValidationMode.PROPERTY_VALIDATION);
             return parent.ruleBuilder;
         }
 
@@ -121,6 +315,7 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
             parent.setFunctionToCallWithParameter(
                     p -> functionToCallWithParameter.accept(id, (P) p)
             );
+            parent.setValidationMode(ValidationMode.FUNCTION_CALL);
             return parent.ruleBuilder;
         }
 
@@ -134,6 +329,7 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
             parent.setFunctionToCallWithParameter(
                     p -> functionToCallWithParameter.accept(a, b, (P) p)
             );
+            parent.setValidationMode(ValidationMode.FUNCTION_CALL);
             return parent.ruleBuilder;
         }
     }
@@ -142,13 +338,30 @@ public abstract class BaseValidationAssert<R extends BaseRuleBuilder<?>> {
         if (parameterUnderTest == null) {
             throw new IllegalStateException("Parameter under test not set.");
         }
+
+        var validator = validatorProvider.getValidator();
+        var mutationValidator = validatorProvider.getMutationValidator();
+        // The inferred rules are cached per validator, so the cached mutation validator is used
+        var parameterClass = parameterUnderTest.getClass();
+        var rules = ruleBuilder.isInferFromConstraints()
+                ? ConstraintRuleInference.merge(parameterClass, ruleBuilder.getRules(), mutationValidator)
+                : ruleBuilder.getRules();
+
         new RuleValidator<>().assertValidation(
                 new RuleValidator.AssertionParameter<>(
                         parameterUnderTest,
                         functionToCallWithParameter,
-                        ruleBuilder.getRules(),
+                        executableCall,
+                        validationMode,
+                        parallel,
+                        MutationSettings.resolve(mutationSettings),
+                        rules,
                         ruleBuilder.getValidationFunctions(),
-                        NON_BEAN_TYPES
+                        ruleBuilder.getCrossFieldMutations(),
+                        NON_BEAN_TYPE_REGISTRY.snapshot().keySet(),
+                        validator,
+                        mutationValidator,
+                        List.copyOf(LISTENERS)
                 )
         );
     }
@@ -0,0 +1,190 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.constantpool.ClassEntry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A SHA-256 hash of the bytecode of a class, which changes whenever the class or one of its helpers is recompiled with
+ * changes.
+ * <p>
+ * The hash covers the bytecode of the class and of all classes it references, directly or indirectly, from the same jar
+ * or directory. Referenced classes of other jars are only identified by the location of their jar, which usually
+ * contains its version. Classes of the JDK are identified by the JDK version, lambdas by the class declaring them and
+ * arrays by their component type. The hash is computed once per class.
+ * </p>
+ */
+@NullMarked
+final class BytecodeFingerprint {
+    private static final String LAMBDA_MARKER = "$$Lambda";
+
+    private static final ClassValue<byte[]> HASHES = new ClassValue<>() {
+        @Override
+        protected byte[] computeValue(Class<?> type) {
+            return hash(type);
+        }
+    };
+
+    private BytecodeFingerprint() {
+    }
+
+    /**
+     * The hash of the given class. The returned array must not be modified.
+     */
+    static byte[] of(Class<?> type) {
+        return HASHES.get(type);
+    }
+
+    /**
+     * The class declaring the given lambda class or null if it is not a lambda or its class cannot be found.
+     */
+    @Nullable
+    static Class<?> hostOf(Class<?> lambdaClass) {
+        var name = lambdaClass.getName();
+        var marker = name.indexOf(LAMBDA_MARKER);
+        if (marker < 0) {
+            return null;
+        }
+
+        try {
+            return Class.forName(name.substring(0, marker), false, lambdaClass.getClassLoader());
+        } catch (ClassNotFoundException _) {
+            return null;
+        }
+    }
+
+    /**
+     * The names of the classes and interfaces referenced in the constant pool of the given bytecode.
+     */
+    static List<String> referencedClasses(byte[] bytecode) {
+        var classes = new ArrayList<String>();
+        for (var entry : ClassFile.of().parse(bytecode).constantPool()) {
+            if (!(entry instanceof ClassEntry classEntry)) {
+                continue;
+            }
+
+            var descriptor = classEntry.asSymbol();
+            while (descriptor.isArray()) {
+                descriptor = descriptor.componentType();
+            }
+            if (descriptor.isClassOrInterface()) {
+                var descriptorString = descriptor.descriptorString();
+                classes.add(descriptorString.substring(1, descriptorString.length() - 1).replace('/', '.'));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * The bytecode of the given class as found by its class loader.
+     */
+    static byte[] readBytecode(ClassLoader classLoader, String className) {
+        try (InputStream input = classLoader.getResourceAsStream(resourceOf(className))) {
+            if (input == null) {
+                throw new RuleValidationException("Bytecode not found for class: " + className);
+            }
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new RuleValidationException("Error reading the bytecode of class: " + className, e);
+        }
+    }
+
+    private static byte[] hash(Class<?> type) {
+        if (type.isArray()) {
+            return of(type.getComponentType());
+        }
+
+        var digest = newDigest();
+        update(digest, "class", type.getName());
+
+        var classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            // Classes of the bootstrap class loader only change with the JDK
+            update(digest, "jdk", Runtime.version());
+            return digest.digest();
+        }
+        if (type.isHidden()) {
+            var host = hostOf(type);
+            return host != null ? of(host) : hashUnknown(digest);
+        }
+
+        var location = locationOf(classLoader, type.getName());
+        if (location == null) {
+            return hashUnknown(digest);
+        }
+
+        var otherLocations = new TreeSet<String>();
+        var visited = new HashSet<String>();
+        var pending = new ArrayDeque<String>();
+        pending.add(type.getName());
+        while (!pending.isEmpty()) {
+            var className = pending.removeFirst();
+            if (!visited.add(className)) {
+                continue;
+            }
+
+            var classLocation = locationOf(classLoader, className);
+            if (classLocation == null || !classLocation.equals(location)) {
+                otherLocations.add(classLocation != null ? classLocation : "missing:" + className);
+                continue;
+            }
+
+            var bytecode = readBytecode(classLoader, className);
+            update(digest, "bytecode", className);
+            digest.update(bytecode);
+            pending.addAll(referencedClasses(bytecode));
+        }
+
+        otherLocations.forEach(otherLocation -> update(digest, "location", otherLocation));
+        return digest.digest();
+    }
+
+    private static byte[] hashUnknown(MessageDigest digest) {
+        // The class cannot be found again in the next run, so its hash must never match a previous one
+        update(digest, "unknown", System.nanoTime());
+        return digest.digest();
+    }
+
+    /**
+     * The jar or directory the class is loaded from, e.g. {@code jar:file:/.../library-1.0.jar!/}.
+     */
+    @Nullable
+    private static String locationOf(ClassLoader classLoader, String className) {
+        var resource = resourceOf(className);
+        var url = classLoader.getResource(resource);
+        if (url == null) {
+            return null;
+        }
+
+        var location = url.toString();
+        return location.endsWith(resource) ? location.substring(0, location.length() - resource.length()) : location;
+    }
+
+    private static String resourceOf(String className) {
+        return className.replace('.', '/') + ".class";
+    }
+
+    private static void update(MessageDigest digest, String name, Object value) {
+        digest.update((name + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the class-level annotations of a class and its superclasses, e.g. the cross-field constraints like
+ * {@code @RepeatedField} or {@code @ValidDateRange}.
+ * <p>
+ * The hierarchy of a class is only walked once per annotation type, repeated lookups are served from the index.
+ * </p>
+ */
+@NullMarked
+public final class ClassAnnotationIndex {
+    private static final ClassValue<Map<Class<?>, List<?>>> INDEX = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, List<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ClassAnnotationIndex() {
+    }
+
+    /**
+     * The annotations of the given type declared on the class or one of its superclasses, including repeated ones.
+     * The annotations of the class itself come first.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A extends Annotation> List<A> annotationsOf(Class<?> type, Class<A> annotationType) {
+        return (List<A>) INDEX.get(type).computeIfAbsent(annotationType, _ -> collect(type, annotationType));
+    }
+
+    private static <A extends Annotation> List<A> collect(Class<?> type, Class<A> annotationType) {
+        var annotations = new ArrayList<A>();
+        for (@Nullable Class<?> current = type; current != null; current = current.getSuperclass()) {
+            annotations.addAll(Arrays.asList(current.getDeclaredAnnotationsByType(annotationType)));
+        }
+        return List.copyOf(annotations);
+    }
+}
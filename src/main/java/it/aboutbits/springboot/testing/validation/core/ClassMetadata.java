@@ -0,0 +1,273 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Valid;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reflection metadata of a parameter class.
+ * The metadata is resolved once per class and then cached, so that the RuleValidator does not have to scan the fields
+ * and constructors again for every rule and every mutated value.
+ * <p>
+ * If a generated {@link ValidationDescriptor} exists for the class, the metadata is taken from it and the class is not
+ * scanned at all.
+ * </p>
+ */
+@NullMarked
+final class ClassMetadata {
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    @Nullable
+    private final ValidationDescriptor<?> descriptor;
+
+    // All non-static fields, starting with the fields of the class itself and then walking up the hierarchy.
+    // Only resolved if there is no descriptor.
+    private final Field @Nullable [] fields;
+
+    private final String[] names;
+
+    private final Class<?>[] parameterTypes;
+
+    private final Map<String, Integer> propertyIndices;
+
+    private final boolean[] validAnnotated;
+
+    private final boolean[] nullableAnnotated;
+
+    // The non-static fields declared directly on the class (inherited fields are not included).
+    private final Set<String> declaredProperties;
+
+    // The properties declared directly on the class that are records and therefore substructures.
+    private final List<String> declaredRecordProperties;
+
+    @Nullable
+    private final Constructor<?> canonicalConstructor;
+
+    @Nullable
+    private final Constructor<?> noArgsConstructor;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.propertyIndices = new HashMap<>();
+        this.declaredProperties = new LinkedHashSet<>();
+        this.declaredRecordProperties = new ArrayList<>();
+
+        var foundDescriptor = findDescriptor(type);
+        this.descriptor = foundDescriptor;
+        if (foundDescriptor != null) {
+            var properties = foundDescriptor.properties();
+
+            this.fields = null;
+            this.names = properties.toArray(new String[0]);
+            this.parameterTypes = foundDescriptor.propertyTypes().toArray(new Class<?>[0]);
+            this.validAnnotated = new boolean[names.length];
+            this.nullableAnnotated = new boolean[names.length];
+
+            for (var i = 0; i < names.length; i++) {
+                propertyIndices.put(names[i], i);
+                validAnnotated[i] = foundDescriptor.isValidAnnotated(i);
+                nullableAnnotated[i] = foundDescriptor.isNullableAnnotated(i);
+
+                // A record has no inherited fields, so all of its components are declared properties
+                declaredProperties.add(names[i]);
+                if (parameterTypes[i].isRecord()) {
+                    declaredRecordProperties.add(names[i]);
+                }
+            }
+
+            this.canonicalConstructor = null;
+            this.noArgsConstructor = null;
+            return;
+        }
+
+        var allFields = getAllFields(type);
+        this.fields = allFields;
+        this.names = new String[allFields.length];
+        this.parameterTypes = new Class<?>[allFields.length];
+        this.validAnnotated = new boolean[allFields.length];
+        this.nullableAnnotated = new boolean[allFields.length];
+
+        for (var i = 0; i < allFields.length; i++) {
+            var field = allFields[i];
+
+            names[i] = field.getName();
+            parameterTypes[i] = field.getType();
+            // If a field is shadowed, the one of the most specific class wins
+            propertyIndices.putIfAbsent(field.getName(), i);
+            validAnnotated[i] = field.getAnnotation(Valid.class) != null;
+            nullableAnnotated[i] = isNullableAnnotated(field);
+        }
+
+        for (var field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                declaredProperties.add(field.getName());
+                if (Record.class.isAssignableFrom(field.getType())) {
+                    declaredRecordProperties.add(field.getName());
+                }
+            }
+        }
+
+        this.canonicalConstructor = findConstructor(type, parameterTypes);
+        this.noArgsConstructor = canonicalConstructor == null ? findConstructor(type) : null;
+    }
+
+    static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    @Nullable
+    ValidationDescriptor<?> descriptor() {
+        return descriptor;
+    }
+
+    int propertyCount() {
+        return names.length;
+    }
+
+    String propertyName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Only available if the metadata was resolved through reflection, i.e. there is no descriptor.
+     */
+    Field field(int index) {
+        if (fields == null) {
+            throw new IllegalStateException("No fields resolved for class with descriptor: " + type.getName());
+        }
+        return fields[index];
+    }
+
+    Class<?>[] parameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    Set<String> declaredProperties() {
+        return Set.copyOf(declaredProperties);
+    }
+
+    List<String> declaredRecordProperties() {
+        return List.copyOf(declaredRecordProperties);
+    }
+
+    @Nullable
+    Constructor<?> canonicalConstructor() {
+        return canonicalConstructor;
+    }
+
+    @Nullable
+    Constructor<?> noArgsConstructor() {
+        return noArgsConstructor;
+    }
+
+    int indexOfOrFail(String propertyName) {
+        var index = propertyIndices.get(propertyName);
+        if (index == null) {
+            throw new RuleValidationException("Property does not exist: " + propertyName);
+        }
+        return index;
+    }
+
+    Class<?> propertyType(String propertyName) {
+        return parameterTypes[indexOfOrFail(propertyName)];
+    }
+
+    boolean isValidAnnotated(String propertyName) {
+        return validAnnotated[indexOfOrFail(propertyName)];
+    }
+
+    boolean isNullableAnnotated(String propertyName) {
+        return nullableAnnotated[indexOfOrFail(propertyName)];
+    }
+
+    private static boolean isNullableAnnotated(Field field) {
+        return field.getAnnotatedType().isAnnotationPresent(org.jspecify.annotations.Nullable.class)
+                || field.isAnnotationPresent(jakarta.annotation.Nullable.class)
+                || field.isAnnotationPresent(org.springframework.lang.Nullable.class);
+    }
+
+    @Nullable
+    private static ValidationDescriptor<?> findDescriptor(Class<?> type) {
+        var classLoader = type.getClassLoader();
+        if (!type.isRecord() || classLoader == null) {
+            return null;
+        }
+
+        // Nested records are named after their enclosing classes: Outer_Inner_ValidationDescriptor
+        var name = new StringBuilder(type.getSimpleName());
+        for (var enclosing = type.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        var packageName = type.getPackageName();
+        var descriptorName = (packageName.isEmpty() ? "" : packageName + ".") + name + ValidationDescriptor.SUFFIX;
+
+        try {
+            var descriptorClass = Class.forName(descriptorName, true, classLoader);
+            if (!ValidationDescriptor.class.isAssignableFrom(descriptorClass)) {
+                return null;
+            }
+
+            var descriptor = (ValidationDescriptor<?>) descriptorClass.getConstructor().newInstance();
+            return descriptor.type() == type ? descriptor : null;
+        } catch (ClassNotFoundException _) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new RuleValidationException("Error loading validation descriptor: " + descriptorName, e);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("java:S3011")
+    private static Constructor<?> findConstructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            var constructor = type.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException _) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static Field[] getAllFields(Class<?> initialClazz) {
+        Class<?> clazz = initialClazz;
+
+        var fields = new ArrayList<Field>();
+        while (clazz != null) {
+            var newFields = Arrays.stream(clazz.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .toList();
+
+            fields.addAll(newFields);
+            clazz = clazz.getSuperclass();
+        }
+
+        for (var field : fields) {
+            field.setAccessible(true);
+        }
+
+        return fields.toArray(new Field[0]);
+    }
+}
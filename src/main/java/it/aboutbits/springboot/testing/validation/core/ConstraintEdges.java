@@ -0,0 +1,180 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.PropertyDescriptor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The values just inside and just outside the bounds of the {@code @Min}, {@code @Max} and {@code @Size} constraints
+ * of a property, derived from its constraint descriptors.
+ * <p>
+ * The values just outside (e.g. 17 for {@code @Min(18)}) violate their constraint, independent of the other constraints
+ * of the property. The values just inside (e.g. 18) are only known to be valid if the property has no other
+ * constraints than these and {@code @NotNull}, so they are omitted otherwise. Only the constraints of the default group
+ * are considered, numbers are supported for the integral types, BigInteger and BigDecimal, sizes for strings, lists,
+ * sets and maps. Sizes above {@value #MAX_SIZE} are omitted, they would need too much memory.
+ * </p>
+ */
+@NullMarked
+final class ConstraintEdges {
+    static final int MAX_SIZE = 10_000;
+
+    private ConstraintEdges() {
+    }
+
+    /**
+     * The edges of the given property, empty if it has no supported bounds.
+     */
+    static List<Edge> of(@Nullable PropertyDescriptor descriptor, Class<?> propertyType) {
+        if (descriptor == null) {
+            return List.of();
+        }
+
+        var min = Long.MIN_VALUE;
+        var max = Long.MAX_VALUE;
+        var minSize = 0L;
+        var maxSize = (long) Integer.MAX_VALUE;
+        var hasNumberBounds = false;
+        var hasSizeBounds = false;
+        // Container elements may have constraints of their own, so the sized values would not be valid
+        var onlyBounds = !descriptor.isCascaded() && descriptor.getConstrainedContainerElementTypes().isEmpty();
+
+        for (var constraint : descriptor.getConstraintDescriptors()) {
+            if (!constraint.getGroups().equals(Set.of(Default.class))) {
+                // E.g. a constraint of a group sequence, which may reject the values inside the default bounds
+                onlyBounds = false;
+                continue;
+            }
+
+            switch (constraint.getAnnotation()) {
+                case Min annotation -> {
+                    min = Math.max(min, annotation.value());
+                    hasNumberBounds = true;
+                }
+                case Max annotation -> {
+                    max = Math.min(max, annotation.value());
+                    hasNumberBounds = true;
+                }
+                case Size annotation -> {
+                    minSize = Math.max(minSize, annotation.min());
+                    maxSize = Math.min(maxSize, annotation.max());
+                    hasSizeBounds = true;
+                }
+                case NotNull _ -> {
+                    // Satisfied by all edges
+                }
+                default -> onlyBounds = false;
+            }
+        }
+
+        var edges = new ArrayList<Edge>();
+        if (hasNumberBounds) {
+            if (min > Long.MIN_VALUE) {
+                addEdge(edges, number(propertyType, min - 1), false, "below @Min(%d)".formatted(min));
+            }
+            if (max < Long.MAX_VALUE) {
+                addEdge(edges, number(propertyType, max + 1), false, "above @Max(%d)".formatted(max));
+            }
+            if (onlyBounds && !hasSizeBounds && min <= max) {
+                if (min > Long.MIN_VALUE) {
+                    addEdge(edges, number(propertyType, min), true, "@Min(%d)".formatted(min));
+                }
+                if (max < Long.MAX_VALUE) {
+                    addEdge(edges, number(propertyType, max), true, "@Max(%d)".formatted(max));
+                }
+            }
+        }
+        if (hasSizeBounds) {
+            if (minSize > 0) {
+                addEdge(edges, sized(propertyType, minSize - 1), false, "below @Size(min = %d)".formatted(minSize));
+            }
+            if (maxSize < Integer.MAX_VALUE) {
+                addEdge(edges, sized(propertyType, maxSize + 1), false, "above @Size(max = %d)".formatted(maxSize));
+            }
+            if (onlyBounds && !hasNumberBounds && minSize <= maxSize) {
+                addEdge(edges, sized(propertyType, minSize), true, "@Size(min = %d)".formatted(minSize));
+                if (maxSize < Integer.MAX_VALUE) {
+                    addEdge(edges, sized(propertyType, maxSize), true, "@Size(max = %d)".formatted(maxSize));
+                }
+            }
+        }
+        return List.copyOf(edges);
+    }
+
+    private static void addEdge(List<Edge> edges, @Nullable Object value, boolean valid, String description) {
+        if (value != null) {
+            edges.add(new Edge(value, valid, description));
+        }
+    }
+
+    // Null if the type is not supported or cannot represent the value
+    @Nullable
+    private static Object number(Class<?> type, long value) {
+        var boxedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        if (boxedType == Long.class) {
+            return value;
+        }
+        if (boxedType == Integer.class && value == (int) value) {
+            return (int) value;
+        }
+        if (boxedType == Short.class && value == (short) value) {
+            return (short) value;
+        }
+        if (boxedType == Byte.class && value == (byte) value) {
+            return (byte) value;
+        }
+        if (boxedType == BigInteger.class) {
+            return BigInteger.valueOf(value);
+        }
+        if (boxedType == BigDecimal.class) {
+            return BigDecimal.valueOf(value);
+        }
+        return null;
+    }
+
+    // Null if the type is not supported or the size is too large
+    @Nullable
+    private static Object sized(Class<?> type, long size) {
+        if (size < 0 || size > MAX_SIZE) {
+            return null;
+        }
+
+        if (type.isAssignableFrom(String.class)) {
+            return "x".repeat((int) size);
+        }
+
+        var elements = IntStream.range(0, (int) size).mapToObj(i -> "dummy_" + i).toList();
+        if (type.isAssignableFrom(List.class)) {
+            return elements;
+        }
+        if (type.isAssignableFrom(Set.class)) {
+            return Set.copyOf(elements);
+        }
+        if (type.isAssignableFrom(Map.class)) {
+            return elements.stream().collect(Collectors.toUnmodifiableMap(element -> element, element -> element));
+        }
+        return null;
+    }
+
+    /**
+     * @param valid       Whether the value satisfies all constraints of the property.
+     * @param description Describes the edge in a counterexample, e.g. "below @Min(18)".
+     */
+    record Edge(Object value, boolean valid, String description) {
+    }
+}
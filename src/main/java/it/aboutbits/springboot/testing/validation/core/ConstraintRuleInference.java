@@ -0,0 +1,167 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import org.jspecify.annotations.NullMarked;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Derives the rules of a class from its constraint annotations, see {@link BaseRuleBuilder#inferFromConstraints()}.
+ * <p>
+ * Each constraint is translated into the same rule method of {@link BaseRuleBuilder} that a test would call, e.g.
+ * {@code @Min(18)} into {@code min(property, 18)}, so explicit and inferred rules share one mapping.
+ * The constraints of the {@link Default} group are read once per class and validator using
+ * {@link Validator#getConstraintsForClass(Class)} and the resulting rules are cached. Constraints of other groups are
+ * not checked by the validation tests, so they are ignored. Properties without constraints are treated as not
+ * validated. Properties with an unsupported constraint (e.g. a custom one or a constraint on a container element like
+ * {@code List<@NotBlank String>}) get no rule at all, so the check that all properties have rules reports them.
+ * </p>
+ */
+@NullMarked
+final class ConstraintRuleInference {
+    private static final Map<Class<? extends Annotation>, Mapping> MAPPINGS = new HashMap<>();
+
+    static {
+        MAPPINGS.put(NotNull.class, (rules, property, _) -> rules.notNull(property));
+        MAPPINGS.put(NotBlank.class, (rules, property, _) -> rules.notBlank(property));
+        MAPPINGS.put(NotEmpty.class, (rules, property, _) -> rules.notEmpty(property));
+        MAPPINGS.put(Size.class, (rules, property, constraint) -> {
+            var min = attribute(constraint, "min");
+            var max = attribute(constraint, "max");
+            if (min > 0 && max < Integer.MAX_VALUE) {
+                return rules.size(property).minMax(min, max);
+            }
+            if (min > 0) {
+                return rules.size(property).min(min);
+            }
+            return max < Integer.MAX_VALUE ? rules.size(property).max(max) : rules;
+        });
+        MAPPINGS.put(Min.class, (rules, property, constraint) -> rules.min(property, attribute(constraint, "value")));
+        MAPPINGS.put(Max.class, (rules, property, constraint) -> rules.max(property, attribute(constraint, "value")));
+        MAPPINGS.put(Positive.class, (rules, property, _) -> rules.positive(property));
+        MAPPINGS.put(PositiveOrZero.class, (rules, property, _) -> rules.positiveOrZero(property));
+        MAPPINGS.put(Negative.class, (rules, property, _) -> rules.negative(property));
+        MAPPINGS.put(NegativeOrZero.class, (rules, property, _) -> rules.negativeOrZero(property));
+        MAPPINGS.put(Future.class, (rules, property, _) -> rules.future(property));
+        MAPPINGS.put(FutureOrPresent.class, (rules, property, _) -> rules.future(property));
+        MAPPINGS.put(Past.class, (rules, property, _) -> rules.past(property));
+        MAPPINGS.put(PastOrPresent.class, (rules, property, _) -> rules.past(property));
+    }
+
+    // The validator is compared by identity, see ValidatorProvider
+    private static final Map<Key, List<Rule>> CACHE = new ConcurrentHashMap<>();
+
+    private ConstraintRuleInference() {
+    }
+
+    /**
+     * The inferred rules of the class, without the ones of properties that have explicit rules.
+     * The explicit rules are always kept.
+     */
+    static List<Rule> merge(Class<?> parameterClass, List<Rule> explicitRules, Validator validator) {
+        var propertiesWithExplicitRules = explicitRules.stream()
+                .map(Rule::getProperty)
+                .collect(Collectors.toSet());
+
+        var rules = new ArrayList<>(explicitRules);
+        var key = new Key(parameterClass, validator);
+        for (var rule : CACHE.computeIfAbsent(key, _ -> infer(parameterClass, validator))) {
+            if (!propertiesWithExplicitRules.contains(rule.getProperty())) {
+                rules.add(rule);
+            }
+        }
+        return rules;
+    }
+
+    private static List<Rule> infer(Class<?> parameterClass, Validator validator) {
+        var metadata = ClassMetadata.of(parameterClass);
+        var bean = validator.getConstraintsForClass(parameterClass);
+
+        var rules = new InferredRules();
+        for (var i = 0; i < metadata.propertyCount(); i++) {
+            var property = metadata.propertyName(i);
+            if (metadata.indexOfOrFail(property) != i) {
+                // Shadowed field of a superclass
+                continue;
+            }
+
+            var propertyDescriptor = bean.getConstraintsForProperty(property);
+            Set<ConstraintDescriptor<?>> constraints = propertyDescriptor != null
+                    ? propertyDescriptor.findConstraints()
+                            .unorderedAndMatchingGroups(Default.class)
+                            .getConstraintDescriptors()
+                    : Set.of();
+
+            var hasContainerElementConstraints = propertyDescriptor != null
+                    && !propertyDescriptor.getConstrainedContainerElementTypes().isEmpty();
+            var isSupported = !hasContainerElementConstraints && constraints.stream()
+                    .allMatch(constraint -> MAPPINGS.containsKey(constraint.getAnnotation().annotationType()));
+            if (!isSupported) {
+                // Reported by the check that all properties have rules, an explicit rule is required
+                continue;
+            }
+
+            var isValid = metadata.isValidAnnotated(property);
+            var isNullable = metadata.isNullableAnnotated(property);
+
+            if (isValid) {
+                rules = rules.validBean(property);
+            }
+            if (isNullable) {
+                rules = rules.nullable(property);
+            }
+
+            if (constraints.isEmpty()) {
+                if (!isValid && !isNullable) {
+                    rules = rules.notValidated(property);
+                }
+                continue;
+            }
+
+            for (var constraint : constraints) {
+                rules = MAPPINGS.get(constraint.getAnnotation().annotationType()).apply(rules, property, constraint);
+            }
+        }
+        return List.copyOf(rules.getRules());
+    }
+
+    private static long attribute(ConstraintDescriptor<?> constraint, String name) {
+        return ((Number) Objects.requireNonNull(constraint.getAttributes().get(name))).longValue();
+    }
+
+    @FunctionalInterface
+    private interface Mapping {
+        InferredRules apply(InferredRules rules, String property, ConstraintDescriptor<?> constraint);
+    }
+
+    private record Key(Class<?> parameterClass, Validator validator) {
+    }
+
+    // Collects the rules added by the rule methods, it is never validated
+    private static final class InferredRules extends BaseRuleBuilder<InferredRules> {
+    }
+}
@@ -0,0 +1,40 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A mutation of a single property that is only invalid in combination with the values of other properties, e.g. a
+ * to-date before the from-date. Each mutated copy must be rejected with a violation of the given class-level
+ * constraint. Values of the valid parameter that a mutation does not support (e.g. a null from-date) skip the mutation,
+ * only the presence of the class-level constraint is checked for them.
+ *
+ * @param constraint  The class-level constraint that must reject the mutation, e.g. {@code ValidDateRange.class}.
+ * @param property    The property that is mutated.
+ * @param description Describes the mutation in the failure message, e.g. "toDate before fromDate".
+ * @param values      Produces the mutated values, given the values of the valid parameter by property name.
+ */
+@Slf4j
+@NullMarked
+public record CrossFieldMutation(
+        Class<? extends Annotation> constraint,
+        String property,
+        String description,
+        Function<Function<String, @Nullable Object>, Stream<?>> values
+) {
+    /**
+     * Skips the mutation for an unsupported value of the valid parameter and logs the reason.
+     *
+     * @param reason Why the value is not supported, e.g. "validDateRange requires a date in fromDate, got: null".
+     * @return No mutated values.
+     */
+    public static Stream<?> unsupported(String reason) {
+        log.warn("Skipping a cross-field mutation: {}", reason);
+        return Stream.empty();
+    }
+}
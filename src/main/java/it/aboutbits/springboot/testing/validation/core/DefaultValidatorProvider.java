@@ -0,0 +1,55 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.spring.BeanAccessor;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+@NullMarked
+final class DefaultValidatorProvider implements ValidatorProvider {
+    static final DefaultValidatorProvider INSTANCE = new DefaultValidatorProvider();
+
+    @Nullable
+    private volatile MutationValidator mutationValidator;
+
+    private DefaultValidatorProvider() {
+    }
+
+    @Override
+    public Validator getValidator() {
+        return getValidatorFactory().getValidator();
+    }
+
+    @Override
+    public Validator getMutationValidator() {
+        var validatorFactory = getValidatorFactory();
+
+        var current = mutationValidator;
+        if (current == null || current.validatorFactory() != validatorFactory) {
+            current = new MutationValidator(
+                    validatorFactory,
+                    validatorFactory.usingContext()
+                            .messageInterpolator(TemplateMessageInterpolator.INSTANCE)
+                            .getValidator()
+            );
+            mutationValidator = current;
+        }
+        return current.validator();
+    }
+
+    ValidatorFactory getValidatorFactory() {
+        // Prefer the factory of the application context, e.g. Spring's LocalValidatorFactoryBean
+        return BeanAccessor.findBean(ValidatorFactory.class)
+                .orElseGet(() -> FallbackValidatorFactory.INSTANCE);
+    }
+
+    private record MutationValidator(ValidatorFactory validatorFactory, Validator validator) {
+    }
+
+    // Only bootstrapped on first use if there is no application context
+    private static final class FallbackValidatorFactory {
+        private static final ValidatorFactory INSTANCE = Validation.buildDefaultValidatorFactory();
+    }
+}
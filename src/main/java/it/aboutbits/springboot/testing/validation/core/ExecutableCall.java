@@ -0,0 +1,133 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.annotation.Validated;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A method whose parameters are validated using the {@link jakarta.validation.executable.ExecutableValidator} instead
+ * of calling it. The parameter under test is always passed as the last argument.
+ * <p>
+ * The method is resolved and its annotations (@Validated on the class, @Valid on the parameter) are checked once.
+ * Each mutation then only validates the arguments, the method itself is never invoked. This gives the same guarantee
+ * as calling a Spring bean with method validation, without running its business logic.
+ * </p>
+ * <p>
+ * Like Spring's method validation, the arguments are validated with the groups of the @Validated annotation of the
+ * method, or of the class if the method has none.
+ * </p>
+ */
+@NullMarked
+record ExecutableCall(
+        Object target,
+        Method method,
+        @Nullable Object[] leadingArguments,
+        Class<?>[] groups
+) {
+    /**
+     * @param leadingArguments A null array is treated as a single null argument, as in
+     *                         {@code validatingCall(target, "update", null)}.
+     */
+    static ExecutableCall resolve(
+            Object target,
+            String methodName,
+            Class<?> parameterClass,
+            @Nullable Object @Nullable [] leadingArguments
+    ) {
+        var arguments = leadingArguments != null ? leadingArguments.clone() : new @Nullable Object[]{null};
+
+        // Spring beans may be proxies, the constraints are declared on the actual class
+        var actualTarget = AopTestUtils.<Object>getUltimateTargetObject(target);
+        var targetClass = actualTarget.getClass();
+
+        var candidates = Arrays.stream(targetClass.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .filter(method -> isApplicable(method, parameterClass, arguments))
+                .toList();
+
+        if (candidates.size() != 1) {
+            throw new AssertionError(
+                    "Expected exactly one method \"%s\" in class \"%s\" accepting %d leading arguments and %s, found: %s"
+                            .formatted(
+                                    methodName,
+                                    targetClass.getCanonicalName(),
+                                    arguments.length,
+                                    parameterClass.getCanonicalName(),
+                                    candidates
+                            )
+            );
+        }
+
+        var method = candidates.getFirst();
+
+        var validated = AnnotationUtils.findAnnotation(targetClass, Validated.class);
+        if (validated == null) {
+            throw new AssertionError("Missing @Validated annotation on class: " + targetClass.getCanonicalName());
+        }
+
+        var methodValidated = AnnotationUtils.findAnnotation(method, Validated.class);
+        var groups = methodValidated != null ? methodValidated.value() : validated.value();
+
+        var parameter = method.getParameters()[method.getParameterCount() - 1];
+        assertThat(parameter.isAnnotationPresent(Valid.class))
+                .withFailMessage("Missing @Valid annotation on the last parameter of method: " + method)
+                .isTrue();
+
+        return new ExecutableCall(actualTarget, method, arguments, groups);
+    }
+
+    /**
+     * The property paths of all violations, relative to the parameter under test.
+     */
+    Set<String> getViolatingProperties(Validator validator, Object parameter) {
+        return validate(validator, parameter).stream()
+                .map(violation -> relativePath(violation.getPropertyPath().toString()))
+                .collect(Collectors.toSet());
+    }
+
+    Set<ConstraintViolation<Object>> validate(Validator validator, Object parameter) {
+        var arguments = Arrays.copyOf(leadingArguments, leadingArguments.length + 1);
+        arguments[leadingArguments.length] = parameter;
+
+        return validator.forExecutables().validateParameters(target, method, arguments, groups);
+    }
+
+    private static String relativePath(String path) {
+        // The path starts with the method and the parameter name, e.g. "create.arg0.name"
+        var methodEnd = path.indexOf('.');
+        var parameterEnd = methodEnd < 0 ? -1 : path.indexOf('.', methodEnd + 1);
+        return parameterEnd < 0 ? "" : path.substring(parameterEnd + 1);
+    }
+
+    private static boolean isApplicable(Method method, Class<?> parameterClass, @Nullable Object[] leadingArguments) {
+        var parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != leadingArguments.length + 1
+                || !parameterTypes[leadingArguments.length].isAssignableFrom(parameterClass)) {
+            return false;
+        }
+
+        for (var i = 0; i < leadingArguments.length; i++) {
+            var argument = leadingArguments[i];
+            var isAssignable = argument == null
+                    ? !parameterTypes[i].isPrimitive()
+                    : ClassUtils.isAssignableValue(parameterTypes[i], argument);
+            if (!isAssignable) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,516 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Remembers passing validation tests across test runs.
+ * <p>
+ * It is enabled using the system property {@value #DIRECTORY_PROPERTY}, e.g.
+ * {@code -Dvalidation.cache.directory=target/validation-cache}. For every passing test, a file named after the hash of
+ * everything the result depends on is stored in the directory:
+ * <ul>
+ *     <li>the bytecode of the parameter class, its superclasses and the application classes of its properties
+ *     (which includes their constraint annotations),</li>
+ *     <li>the constraints reported by the validator and the bytecode of their validator classes,</li>
+ *     <li>the rules, the bytecode of their value-sources and the valid parameter itself,</li>
+ *     <li>the entries of all {@link ScopedRegistry} instances visible to the test, i.e. the registered types and
+ *     value-sources,</li>
+ *     <li>the validation mode and the non-bean types,</li>
+ *     <li>the suite seed of {@link SeededRandom}, because it determines the random values of the value-sources,</li>
+ *     <li>the validated method and its class, if the arguments of a method call are validated.</li>
+ * </ul>
+ * The bytecode of a class is hashed by {@link BytecodeFingerprint}, which includes all classes it references from the
+ * same jar or directory (e.g. the helpers of a value-source or the engine itself). Values (the valid parameter, the
+ * arguments of the rules and the registered entries) are hashed by their content, e.g. the properties of a record
+ * instead of its {@code toString()}. A test with a value that cannot be hashed is not cached.
+ * </p>
+ * <p>
+ * If the same hash is found in a later run, the mutations are skipped. Tests calling a function are never cached,
+ * because the behavior of the function cannot be hashed, and neither are fuzzed tests. Entries that were not used for
+ * {@value #MAX_AGE_PROPERTY} (default {@code P7D}) are deleted when the cache is opened.
+ * </p>
+ */
+@Slf4j
+@NullMarked
+final class IncrementalValidationCache {
+    static final String DIRECTORY_PROPERTY = "validation.cache.directory";
+
+    static final String MAX_AGE_PROPERTY = "validation.cache.max-age";
+
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7);
+
+    // Increment if the engine changes in a way that invalidates previous results
+    private static final int VERSION = 3;
+
+    @Nullable
+    private static final Path DIRECTORY = openDirectory();
+
+    private IncrementalValidationCache() {
+    }
+
+    /**
+     * The key of the given test or null if the cache is disabled or the test cannot be cached.
+     */
+    @Nullable
+    static String keyOf(RuleValidator.AssertionParameter<?> parameter) {
+        return DIRECTORY != null ? computeKey(parameter) : null;
+    }
+
+    static boolean hasPassed(String key) {
+        return DIRECTORY != null && hasPassed(DIRECTORY, key);
+    }
+
+    static void markPassed(String key, Class<?> parameterClass) {
+        if (DIRECTORY != null) {
+            markPassed(DIRECTORY, key, parameterClass);
+        }
+    }
+
+    /**
+     * The hash of the given test, or null if it cannot be cached.
+     */
+    @Nullable
+    static String computeKey(RuleValidator.AssertionParameter<?> parameter) {
+        // Fuzzing checks other random inputs in every run, so a passing run must not skip the next one
+        if (parameter.validationMode() == ValidationMode.FUNCTION_CALL
+                || parameter.mutationSettings().profile() == MutationProfile.FUZZ) {
+            return null;
+        }
+
+        var digest = newDigest();
+        update(digest, "version", VERSION);
+        update(digest, "jdk", Runtime.version());
+        // Without a fixed seed every run checks other random values, so a passing run must not skip them
+        update(digest, "seed", SeededRandom.suiteSeed());
+        // The engine, the built-in value-sources and all of their helpers
+        digest.update(BytecodeFingerprint.of(RuleValidator.class));
+        update(digest, "mode", parameter.validationMode());
+        update(digest, "profile", parameter.mutationSettings().profile());
+        update(digest, "validator", parameter.mutationValidator().getClass().getName());
+
+        if (!updateValue(digest, "parameter", parameter.parameterUnderTest())) {
+            return null;
+        }
+
+        parameter.nonBeanTypes().stream()
+                .map(Class::getName)
+                .sorted()
+                .forEach(type -> update(digest, "nonBeanType", type));
+
+        for (var rule : parameter.rules()) {
+            update(digest, "property", rule.getProperty());
+            update(digest, "valueSource", rule.getValueSource().getName());
+            digest.update(BytecodeFingerprint.of(rule.getValueSource()));
+            if (!updateValue(digest, "args", rule.getArgs())) {
+                return null;
+            }
+            update(digest, "valid", rule.isRequireValid());
+            update(digest, "nullable", rule.isRequireNullable());
+        }
+
+        for (var mutation : parameter.crossFieldMutations()) {
+            update(digest, "crossField", mutation.constraint().getName() + "#" + mutation.property());
+            update(digest, "crossFieldDescription", mutation.description());
+            if (!updateValue(digest, "crossFieldValues", mutation.values())) {
+                return null;
+            }
+        }
+
+        if (!updateRegistrations(digest)) {
+            return null;
+        }
+
+        var types = new LinkedHashSet<Class<?>>();
+        collectApplicationTypes(parameter.parameterUnderTest().getClass(), types);
+
+        var executableCall = parameter.executableCall();
+        if (parameter.validationMode() == ValidationMode.EXECUTABLE_VALIDATION && executableCall != null) {
+            // The constraints of the method are part of the bytecode of the declaring class
+            update(digest, "method", executableCall.method().toGenericString());
+            if (!updateValue(digest, "leadingArguments", executableCall.leadingArguments())
+                    || !updateValue(digest, "groups", executableCall.groups())) {
+                return null;
+            }
+            types.add(executableCall.method().getDeclaringClass());
+            types.add(executableCall.target().getClass());
+        }
+        for (var type : types) {
+            update(digest, "type", type.getName());
+            digest.update(BytecodeFingerprint.of(type));
+            updateConstraints(digest, parameter.mutationValidator(), type);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static boolean hasPassed(Path directory, String key) {
+        var entry = directory.resolve(key);
+        if (!Files.exists(entry)) {
+            return false;
+        }
+
+        try {
+            // Used entries are kept, see prune
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Could not touch the validation cache entry: {}", entry, e);
+        }
+        return true;
+    }
+
+    static void markPassed(Path directory, String key, Class<?> parameterClass) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(key), parameterClass.getName());
+        } catch (IOException e) {
+            log.warn("Could not write the validation cache entry for class: {}", parameterClass.getName(), e);
+        }
+    }
+
+    /**
+     * Deletes the entries that were neither written nor used within the given duration.
+     *
+     * @return The number of deleted entries.
+     */
+    static int prune(Path directory, Duration maxAge) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        var threshold = FileTime.from(Instant.now().minus(maxAge));
+        var deleted = 0;
+        try (var entries = Files.list(directory)) {
+            for (var entry : entries.filter(Files::isRegularFile).toList()) {
+                if (Files.getLastModifiedTime(entry).compareTo(threshold) < 0 && Files.deleteIfExists(entry)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not prune the validation cache: {}", directory, e);
+        }
+        return deleted;
+    }
+
+    private static boolean updateRegistrations(MessageDigest digest) {
+        // Neither the registries nor their entries have a stable order, so each entry is hashed on its own and sorted
+        var entries = new TreeSet<String>();
+        for (var registry : ScopedRegistry.instances()) {
+            for (var entry : registry.snapshot().entrySet()) {
+                var entryDigest = newDigest();
+                if (!updateValue(entryDigest, "key", entry.getKey())
+                        || !updateValue(entryDigest, "value", entry.getValue())) {
+                    return false;
+                }
+                entries.add(HexFormat.of().formatHex(entryDigest.digest()));
+            }
+        }
+        entries.forEach(entry -> update(digest, "registration", entry));
+        return true;
+    }
+
+    private static boolean updateValue(MessageDigest digest, String name, @Nullable Object value) {
+        update(digest, "value", name);
+        return updateValue(digest, value, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Hashes a value by its content:
+     * <ul>
+     *     <li>application objects by their class and the values of their properties (see {@link ClassMetadata}),</li>
+     *     <li>lambdas by the class declaring them and their captured values,</li>
+     *     <li>arrays, collections and maps by their elements, sets and maps independent of their order,</li>
+     *     <li>all other JDK values (e.g. String, Integer or LocalDate) by their {@code toString()}.</li>
+     * </ul>
+     *
+     * @return False if the value cannot be hashed reliably, e.g. a JDK value with the {@code toString()} of Object,
+     * which contains the identity hash code, or a cyclic structure.
+     */
+    private static boolean updateValue(MessageDigest digest, @Nullable Object value, Set<Object> path) {
+        if (value == null) {
+            update(digest, "null", true);
+            return true;
+        }
+        if (value instanceof Class<?> type) {
+            update(digest, "class", type.getName());
+            digest.update(BytecodeFingerprint.of(type));
+            return true;
+        }
+        if (value instanceof Enum<?> constant) {
+            update(digest, "enum", constant.getDeclaringClass().getName() + "." + constant.name());
+            return true;
+        }
+        if (!path.add(value)) {
+            return false;
+        }
+
+        try {
+            var type = value.getClass();
+            if (type.isHidden()) {
+                return updateLambda(digest, value, path);
+            }
+
+            update(digest, "type", type.getName());
+            if (type.isArray()) {
+                var elements = new ArrayList<@Nullable Object>();
+                for (var i = 0; i < Array.getLength(value); i++) {
+                    elements.add(Array.get(value, i));
+                }
+                return updateElements(digest, elements, path);
+            }
+            if (value instanceof Set<?> set) {
+                return updateUnordered(digest, set, path);
+            }
+            if (value instanceof Collection<?> collection) {
+                return updateElements(digest, collection, path);
+            }
+            if (value instanceof Map<?, ?> map) {
+                return updateUnordered(digest, map.entrySet(), path);
+            }
+            if (value instanceof Map.Entry<?, ?> entry) {
+                return updateValue(digest, entry.getKey(), path) && updateValue(digest, entry.getValue(), path);
+            }
+            if (isApplicationType(type)) {
+                return updateProperties(digest, value, path);
+            }
+            if (hasIdentityToString(type)) {
+                return false;
+            }
+
+            update(digest, "string", value);
+            return true;
+        } finally {
+            path.remove(value);
+        }
+    }
+
+    private static boolean updateProperties(MessageDigest digest, Object value, Set<Object> path) {
+        var type = value.getClass();
+        digest.update(BytecodeFingerprint.of(type));
+
+        var metadata = ClassMetadata.of(type);
+        var copier = PropertyCopier.of(type);
+        for (var i = 0; i < metadata.propertyCount(); i++) {
+            update(digest, "property", metadata.propertyName(i));
+            if (!updateValue(digest, copier.get(value, i), path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static boolean updateLambda(MessageDigest digest, Object lambda, Set<Object> path) {
+        // Lambdas are hidden classes without bytecode, their code is part of the class declaring them
+        var host = BytecodeFingerprint.hostOf(lambda.getClass());
+        if (host == null) {
+            return false;
+        }
+        update(digest, "lambda", host.getName());
+        digest.update(BytecodeFingerprint.of(host));
+
+        // The captured values are stored in the fields of the lambda
+        try {
+            for (var field : lambda.getClass().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                if (!updateValue(digest, field.get(lambda), path)) {
+                    return false;
+                }
+            }
+        } catch (IllegalAccessException | InaccessibleObjectException _) {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean updateElements(MessageDigest digest, Collection<?> elements, Set<Object> path) {
+        update(digest, "size", elements.size());
+        for (var element : elements) {
+            if (!updateValue(digest, element, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean updateUnordered(MessageDigest digest, Collection<?> elements, Set<Object> path) {
+        var hashes = new TreeSet<String>();
+        for (var element : elements) {
+            var elementDigest = newDigest();
+            if (!updateValue(elementDigest, element, path)) {
+                return false;
+            }
+            hashes.add(HexFormat.of().formatHex(elementDigest.digest()));
+        }
+
+        update(digest, "size", elements.size());
+        hashes.forEach(hash -> update(digest, "element", hash));
+        return true;
+    }
+
+    private static boolean hasIdentityToString(Class<?> type) {
+        try {
+            return type.getMethod("toString").getDeclaringClass() == Object.class;
+        } catch (NoSuchMethodException _) {
+            return true;
+        }
+    }
+
+    private static void collectApplicationTypes(Type type, Set<Class<?>> types) {
+        switch (type) {
+            case Class<?> clazz when clazz.isArray() -> collectApplicationTypes(clazz.getComponentType(), types);
+            case Class<?> clazz -> {
+                if (!isApplicationType(clazz) || !types.add(clazz)) {
+                    return;
+                }
+
+                for (var field : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        collectApplicationTypes(field.getGenericType(), types);
+                    }
+                }
+
+                var superclass = clazz.getSuperclass();
+                if (superclass != null) {
+                    collectApplicationTypes(superclass, types);
+                }
+            }
+            case ParameterizedType parameterizedType -> {
+                collectApplicationTypes(parameterizedType.getRawType(), types);
+                for (var argument : parameterizedType.getActualTypeArguments()) {
+                    collectApplicationTypes(argument, types);
+                }
+            }
+            case WildcardType wildcardType -> {
+                for (var bound : wildcardType.getUpperBounds()) {
+                    collectApplicationTypes(bound, types);
+                }
+            }
+            default -> {
+                // Type variables and generic arrays are covered by the declaring class
+            }
+        }
+    }
+
+    private static boolean isApplicationType(Class<?> type) {
+        // Classes of the JDK are loaded by the bootstrap or the platform class loader
+        var classLoader = type.getClassLoader();
+        return classLoader != null && classLoader != ClassLoader.getPlatformClassLoader();
+    }
+
+    private static void updateConstraints(MessageDigest digest, Validator validator, Class<?> type) {
+        var bean = validator.getConstraintsForClass(type);
+
+        updateConstraints(digest, bean.getConstraintDescriptors());
+        bean.getConstrainedProperties().stream()
+                .sorted(Comparator.comparing(PropertyDescriptor::getPropertyName))
+                .forEach(property -> {
+                    update(digest, "constrainedProperty", property.getPropertyName());
+                    updateConstraints(digest, property.getConstraintDescriptors());
+                });
+    }
+
+    private static void updateConstraints(MessageDigest digest, Set<ConstraintDescriptor<?>> descriptors) {
+        // The descriptors are unordered, so they are sorted to get the same hash in every run
+        descriptors.stream()
+                .sorted(Comparator.comparing(descriptor -> descriptor.getAnnotation().toString()))
+                .forEach(descriptor -> updateConstraint(digest, descriptor));
+    }
+
+    private static void updateConstraint(MessageDigest digest, ConstraintDescriptor<?> descriptor) {
+        update(digest, "constraint", descriptor.getAnnotation());
+        for (var validatorClass : descriptor.getConstraintValidatorClasses()) {
+            digest.update(BytecodeFingerprint.of(validatorClass));
+        }
+        updateConstraints(digest, descriptor.getComposingConstraints());
+    }
+
+    private static void update(MessageDigest digest, String name, Object value) {
+        digest.update((name + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+    }
+
+    @Nullable
+    private static Path openDirectory() {
+        var directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+
+        var path = Path.of(directory.trim());
+        var deleted = prune(path, resolveMaxAge());
+        if (System.getProperty(SeededRandom.SEED_PROPERTY) == null) {
+            log.warn(
+                    "The validation cache only skips tests of runs with the same random seed, use -D{}=<seed>.",
+                    SeededRandom.SEED_PROPERTY
+            );
+        }
+        log.info(
+                "Passing validation tests are cached in {}, {} unused entries were deleted. "
+                        + "Delete the directory to run all of them again.",
+                path,
+                deleted
+        );
+        return path;
+    }
+
+    private static Duration resolveMaxAge() {
+        var maxAge = System.getProperty(MAX_AGE_PROPERTY);
+        if (maxAge == null || maxAge.isBlank()) {
+            return DEFAULT_MAX_AGE;
+        }
+
+        try {
+            return Duration.parse(maxAge.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "Invalid value of -D%s: %s. Use an ISO-8601 duration, e.g. P7D.".formatted(
+                            MAX_AGE_PROPERTY,
+                            maxAge
+                    ),
+                    e
+            );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Controls how many mutated values are checked for each rule.
+ * <p>
+ * The profile is resolved in the following order:
+ * <ol>
+ *     <li>{@link BaseValidationAssert#withProfile(MutationProfile)} of the test,</li>
+ *     <li>the system property {@value #PROFILE_PROPERTY}, e.g. {@code -Dvalidation.profile=smoke},</li>
+ *     <li>{@link ValidationProfile} on the test class (or one of its enclosing classes),</li>
+ *     <li>{@link #STANDARD}.</li>
+ * </ol>
+ * The time budget is resolved in the same order. The same test code can therefore run cheaply in pull request builds
+ * and exhaustively in nightly builds, even if some test classes declare another profile.
+ * </p>
+ */
+@NullMarked
+public enum MutationProfile {
+    /**
+     * Only the first (boundary) value of each rule is checked.
+     */
+    SMOKE,
+
+    /**
+     * All values of the value-sources are checked.
+     */
+    STANDARD,
+
+    /**
+     * All values of the value-sources plus additional random samples are checked. The additional samples can be
+     * limited by a time budget per {@code isCompliant()}, using {@link ValidationProfile#budgetMillis()},
+     * {@link BaseValidationAssert#withProfile(MutationProfile, java.time.Duration)} or the system property
+     * {@value #BUDGET_PROPERTY} (an ISO-8601 duration, e.g. {@code PT10S}).
+     */
+    EXHAUSTIVE,
+
+    /**
+     * All values of the value-sources are checked, then random combinations of mutations of multiple properties and
+     * of values at the edges of their bounds are checked until the time budget (100 ms per rule by default) is
+     * exhausted or 1000 combinations per rule were checked. Failures are shrunk to a minimal counterexample. Tests
+     * calling a function are not fuzzed, only bean validation and {@code validatingCall}.
+     */
+    FUZZ;
+
+    public static final String PROFILE_PROPERTY = "validation.profile";
+
+    public static final String BUDGET_PROPERTY = "validation.profile.budget";
+}
@@ -0,0 +1,135 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The resolved {@link MutationProfile} and time budget of a single {@code isCompliant()}.
+ *
+ * @param budget The time budget for the additional samples of {@link MutationProfile#EXHAUSTIVE} or the fuzzing of
+ *               {@link MutationProfile#FUZZ}, null if unlimited (fuzzing then uses
+ *               {@link ValidationFuzzer#BUDGET_PER_RULE} per rule).
+ */
+@NullMarked
+record MutationSettings(MutationProfile profile, @Nullable Duration budget) {
+    // The number of additional rounds of random samples of the exhaustive profile
+    static final int EXHAUSTIVE_ROUNDS = 3;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final ClassValue<Optional<ValidationProfile>> ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Optional<ValidationProfile> computeValue(Class<?> type) {
+            for (@Nullable Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+                var annotation = current.getAnnotation(ValidationProfile.class);
+                if (annotation != null) {
+                    return Optional.of(annotation);
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    /**
+     * Resolves the settings of the current test, see {@link MutationProfile} for the order.
+     * The system properties are read on each call, so an invalid value is reported by the test using it.
+     */
+    static MutationSettings resolve(@Nullable MutationSettings explicitSettings) {
+        if (explicitSettings != null) {
+            return explicitSettings;
+        }
+
+        var profile = profileFromSystemProperties();
+        var budget = budgetFromSystemProperties();
+        if (profile != null && budget != null) {
+            return new MutationSettings(profile, budget);
+        }
+
+        var annotation = findAnnotation();
+        if (annotation != null) {
+            if (profile == null) {
+                profile = annotation.value();
+            }
+            if (budget == null && annotation.budgetMillis() > 0) {
+                budget = Duration.ofMillis(annotation.budgetMillis());
+            }
+        }
+
+        return new MutationSettings(profile != null ? profile : MutationProfile.STANDARD, budget);
+    }
+
+    /**
+     * The nano time at which no more additional samples are checked, or {@link Long#MAX_VALUE} if unlimited.
+     */
+    long deadline() {
+        if (budget == null) {
+            return Long.MAX_VALUE;
+        }
+        return System.nanoTime() + budget.toNanos();
+    }
+
+    @Nullable
+    private static ValidationProfile findAnnotation() {
+        // The test class is found on the call stack of isCompliant(), between the assertion and the test framework
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .dropWhile(MutationSettings::isAssertionClass)
+                .takeWhile(type -> !type.getName().startsWith("org.junit."))
+                .map(ANNOTATIONS::get)
+                .flatMap(Optional::stream)
+                .findFirst()
+        ).orElse(null);
+    }
+
+    private static boolean isAssertionClass(Class<?> type) {
+        return type == MutationSettings.class
+                || type == ValidationSpec.class
+                || BaseValidationAssert.class.isAssignableFrom(type)
+                || BaseRuleBuilder.class.isAssignableFrom(type);
+    }
+
+    @Nullable
+    private static MutationProfile profileFromSystemProperties() {
+        var profile = System.getProperty(MutationProfile.PROFILE_PROPERTY);
+        if (profile == null || profile.isBlank()) {
+            return null;
+        }
+
+        try {
+            return MutationProfile.valueOf(profile.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid value of -D%s: %s. Use one of %s.".formatted(
+                            MutationProfile.PROFILE_PROPERTY,
+                            profile,
+                            Arrays.toString(MutationProfile.values()).toLowerCase(Locale.ROOT)
+                    ),
+                    e
+            );
+        }
+    }
+
+    @Nullable
+    private static Duration budgetFromSystemProperties() {
+        var budget = System.getProperty(MutationProfile.BUDGET_PROPERTY);
+        if (budget == null || budget.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Duration.parse(budget.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                    "Invalid value of -D%s: %s. Use an ISO-8601 duration, e.g. PT10S."
+                            .formatted(MutationProfile.BUDGET_PROPERTY, budget),
+                    e
+            );
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Creates copies of a parameter with exactly one property replaced.
+ * <p>
+ * Each class is compiled once into a set of {@link MethodHandle}s:
+ * <ul>
+ *     <li>Records and classes with an all-args constructor get one "with-one-component" handle per property.
+ *     The handle reads all other properties from the original and passes them together with the new value to the
+ *     constructor in a single call.</li>
+ *     <li>Classes that only have a no-args constructor are instantiated and then populated through field setters.</li>
+ * </ul>
+ * Records with a generated {@link ValidationDescriptor} are copied through the descriptor and are not compiled at all.
+ * Compared to {@link Constructor#newInstance(Object...)} this avoids the access checks, the argument array copying
+ * and the boxing of the reflective path on every mutation.
+ * </p>
+ */
+@NullMarked
+final class PropertyCopier {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WITH_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<PropertyCopier> CACHE = new ClassValue<>() {
+        @Override
+        protected PropertyCopier computeValue(Class<?> type) {
+            return new PropertyCopier(ClassMetadata.of(type));
+        }
+    };
+
+    private final ClassMetadata metadata;
+
+    @Nullable
+    private final ValidationDescriptor<Object> descriptor;
+
+    // (Object)Object - reads the property with the given index
+    private final MethodHandle[] getters;
+
+    // (Object original, Object value)Object - creates a copy with the property at the given index replaced
+    private final MethodHandle @Nullable [] withers;
+
+    // ()Object - only used for classes without an all-args constructor
+    @Nullable
+    private final MethodHandle noArgsConstructor;
+
+    // (Object instance, Object value)void - only used for classes without an all-args constructor
+    private final MethodHandle @Nullable [] setters;
+
+    @SuppressWarnings("unchecked")
+    private PropertyCopier(ClassMetadata metadata) {
+        this.metadata = metadata;
+        this.descriptor = (ValidationDescriptor<Object>) metadata.descriptor();
+
+        if (descriptor != null) {
+            this.getters = new MethodHandle[0];
+            this.withers = null;
+            this.noArgsConstructor = null;
+            this.setters = null;
+            return;
+        }
+
+        try {
+            this.getters = createGetters(metadata);
+
+            var canonicalConstructor = metadata.canonicalConstructor();
+            if (canonicalConstructor != null) {
+                this.withers = createWithers(metadata, canonicalConstructor, getters);
+                this.noArgsConstructor = null;
+                this.setters = null;
+            } else {
+                var constructor = metadata.noArgsConstructor();
+                this.withers = null;
+                this.noArgsConstructor = constructor != null
+                        ? MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class))
+                        : null;
+                this.setters = constructor != null ? createSetters(metadata) : null;
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuleValidationException(
+                    "Error compiling copier for class: " + metadata.type().getName(),
+                    e
+            );
+        }
+    }
+
+    static PropertyCopier of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    @Nullable
+    Object get(Object original, int index) {
+        if (descriptor != null) {
+            return descriptor.get(original, index);
+        }
+
+        try {
+            return (Object) getters[index].invokeExact(original);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuleValidationException("Error reading property: " + metadata.propertyName(index), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T withProperty(T original, int index, @Nullable Object value) {
+        try {
+            if (descriptor != null) {
+                return (T) descriptor.withProperty(original, index, value);
+            }
+
+            if (withers != null) {
+                return (T) (Object) withers[index].invokeExact((Object) original, value);
+            }
+
+            if (noArgsConstructor == null || setters == null) {
+                throw new RuleValidationException(
+                        "Error creating copy with altered property. Maybe there is no eligible-constructor?"
+                );
+            }
+
+            var instance = (Object) noArgsConstructor.invokeExact();
+            for (var i = 0; i < setters.length; i++) {
+                var propertyValue = i == index ? value : (Object) getters[i].invokeExact((Object) original);
+                setters[i].invokeExact(instance, propertyValue);
+            }
+            return (T) instance;
+        } catch (RuleValidationException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuleValidationException(
+                    "Error creating copy with altered property: " + metadata.propertyName(index),
+                    e
+            );
+        }
+    }
+
+    private static MethodHandle[] createGetters(ClassMetadata metadata) throws IllegalAccessException {
+        var lookup = MethodHandles.lookup();
+        var getters = new MethodHandle[metadata.propertyCount()];
+
+        var recordComponents = metadata.type().getRecordComponents();
+        for (var i = 0; i < getters.length; i++) {
+            if (recordComponents != null && i < recordComponents.length) {
+                // Records are read through their component accessors
+                getters[i] = lookup.unreflect(accessibleAccessor(recordComponents[i])).asType(GETTER_TYPE);
+            } else {
+                getters[i] = lookup.unreflectGetter(metadata.field(i)).asType(GETTER_TYPE);
+            }
+        }
+        return getters;
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static Method accessibleAccessor(RecordComponent component) {
+        var accessor = component.getAccessor();
+        accessor.setAccessible(true);
+        return accessor;
+    }
+
+    private static MethodHandle[] createWithers(
+            ClassMetadata metadata,
+            Constructor<?> canonicalConstructor,
+            MethodHandle[] getters
+    ) throws IllegalAccessException {
+        var type = metadata.type();
+        var parameterTypes = metadata.parameterTypes();
+        var constructor = MethodHandles.lookup().unreflectConstructor(canonicalConstructor);
+
+        var withers = new MethodHandle[parameterTypes.length];
+        for (var index = 0; index < parameterTypes.length; index++) {
+            var wither = constructor;
+
+            // Feed every argument except the altered one from the corresponding getter of the original
+            for (var i = 0; i < parameterTypes.length; i++) {
+                if (i != index) {
+                    var getter = getters[i].asType(MethodType.methodType(parameterTypes[i], type));
+                    wither = MethodHandles.filterArguments(wither, i, getter);
+                }
+            }
+
+            // Collapse all the "original" arguments into a single one: (original, value)
+            var reorder = new int[parameterTypes.length];
+            for (var i = 0; i < parameterTypes.length; i++) {
+                reorder[i] = i == index ? 1 : 0;
+            }
+            wither = MethodHandles.permuteArguments(
+                    wither,
+                    MethodType.methodType(type, type, parameterTypes[index]),
+                    reorder
+            );
+
+            withers[index] = wither.asType(WITH_TYPE);
+        }
+        return withers;
+    }
+
+    private static MethodHandle[] createSetters(ClassMetadata metadata) throws IllegalAccessException {
+        var lookup = MethodHandles.lookup();
+        var setters = new MethodHandle[metadata.propertyCount()];
+        for (var i = 0; i < setters.length; i++) {
+            setters[i] = lookup.unreflectSetter(metadata.field(i)).asType(SETTER_TYPE);
+        }
+        return setters;
+    }
+}
@@ -0,0 +1,193 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A parsed property path of a rule, e.g. {@code name}, {@code address.street} or {@code items[0].qty}.
+ * <p>
+ * The path uses the same notation as the property paths reported by bean validation, so a violation of a nested
+ * property can be matched against the path of the rule as is.
+ * </p>
+ * <p>
+ * Copies with an altered nested property share their structure with the original: only the objects on the path from
+ * the root to the altered property are recreated, all other properties and list elements are reused by reference.
+ * </p>
+ */
+@NullMarked
+record PropertyPath(String path, List<Segment> segments) {
+    private static final Pattern SEGMENT = Pattern.compile("([A-Za-z_$][A-Za-z0-9_$]*)(?:\\[(\\d+)])?");
+
+    static PropertyPath parse(String path) {
+        var segments = new ArrayList<Segment>();
+        for (var part : path.split("\\.", -1)) {
+            var matcher = SEGMENT.matcher(part);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid property path: " + path);
+            }
+
+            var index = matcher.group(2);
+            segments.add(new Segment(matcher.group(1), index != null ? Integer.parseInt(index) : Segment.NO_INDEX));
+        }
+        return new PropertyPath(path, List.copyOf(segments));
+    }
+
+    /**
+     * A plain property of the parameter itself, i.e. neither a nested nor an indexed property.
+     */
+    boolean isSimple() {
+        return segments.size() == 1 && !segments.getFirst().isIndexed();
+    }
+
+    String rootProperty() {
+        return segments.getFirst().name();
+    }
+
+    /**
+     * The object that declares the last segment of the path.
+     */
+    Object owner(Object root) {
+        return valueAt(root, segments.size() - 1);
+    }
+
+    /**
+     * The object reached by the first {@code depth} segments of the path.
+     */
+    Object valueAt(Object root, int depth) {
+        var current = root;
+        for (var i = 0; i < depth; i++) {
+            current = valueOf(current, segments.get(i));
+        }
+        return current;
+    }
+
+    /**
+     * The path of the first {@code depth} segments, e.g. {@code items[0]} for {@code items[0].qty} and a depth of 1.
+     */
+    String prefix(int depth) {
+        var prefix = new StringBuilder();
+        for (var i = 0; i < depth; i++) {
+            var segment = segments.get(i);
+            if (i > 0) {
+                prefix.append('.');
+            }
+            prefix.append(segment.name());
+            if (segment.isIndexed()) {
+                prefix.append('[').append(segment.index()).append(']');
+            }
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * The type of the values the property at the end of the path can be set to.
+     * The elements of a list are resolved from the given instance, because the element type is erased.
+     */
+    Class<?> leafType(Object root) {
+        var last = segments.getLast();
+        var owner = owner(root);
+        if (!last.isIndexed()) {
+            return ClassMetadata.of(owner.getClass()).propertyType(last.name());
+        }
+        return valueOf(owner, last).getClass();
+    }
+
+    /**
+     * Creates a copy of the root with the property at the end of the path replaced.
+     */
+    <T> T withValue(T root, @Nullable Object value) {
+        @SuppressWarnings("unchecked")
+        var copy = (T) withValue(root, 0, value);
+        return copy;
+    }
+
+    private Object withValue(Object current, int depth, @Nullable Object value) {
+        var segment = segments.get(depth);
+        var isLast = depth == segments.size() - 1;
+
+        var metadata = ClassMetadata.of(current.getClass());
+        var index = metadata.indexOfOrFail(segment.name());
+        var copier = PropertyCopier.of(current.getClass());
+
+        if (!segment.isIndexed()) {
+            var newValue = isLast ? value : withValue(nonNull(copier.get(current, index), segment), depth + 1, value);
+            return copier.withProperty(current, index, newValue);
+        }
+
+        if (!metadata.propertyType(segment.name()).isAssignableFrom(ArrayList.class)) {
+            throw new RuleValidationException(
+                    "Indexed properties must be declared as List or Collection: " + segment.name()
+            );
+        }
+
+        var list = asList(copier.get(current, index), segment);
+        var element = isLast ? value : withValue(elementOf(list, segment), depth + 1, value);
+
+        // Only the list itself is recreated, all other elements are shared with the original
+        var newList = new ArrayList<@Nullable Object>(list);
+        newList.set(segment.index(), element);
+
+        return copier.withProperty(current, index, newList);
+    }
+
+    private static Object valueOf(Object current, Segment segment) {
+        var index = ClassMetadata.of(current.getClass()).indexOfOrFail(segment.name());
+        var value = nonNull(PropertyCopier.of(current.getClass()).get(current, index), segment);
+        if (!segment.isIndexed()) {
+            return value;
+        }
+        return elementOf(asList(value, segment), segment);
+    }
+
+    private static List<?> asList(@Nullable Object value, Segment segment) {
+        if (!(nonNull(value, segment) instanceof List<?> list)) {
+            throw new RuleValidationException("Indexed property is not a List: " + segment.name());
+        }
+        return list;
+    }
+
+    private static Object elementOf(List<?> list, Segment segment) {
+        if (segment.index() >= list.size()) {
+            throw new RuleValidationException(
+                    "Index %d is out of bounds for property %s with %d elements".formatted(
+                            segment.index(),
+                            segment.name(),
+                            list.size()
+                    )
+            );
+        }
+        var element = list.get(segment.index());
+        if (element == null) {
+            throw new RuleValidationException(
+                    "Element %d of property %s is null".formatted(segment.index(), segment.name())
+            );
+        }
+        return element;
+    }
+
+    private static Object nonNull(@Nullable Object value, Segment segment) {
+        if (value == null) {
+            throw new RuleValidationException(
+                    "Property on the path is null, the parameter must contain a value: " + segment.name()
+            );
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    record Segment(String name, int index) {
+        static final int NO_INDEX = -1;
+
+        boolean isIndexed() {
+            return index != NO_INDEX;
+        }
+    }
+}
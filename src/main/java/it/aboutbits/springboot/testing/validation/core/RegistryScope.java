@@ -0,0 +1,137 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A scope for the registrations of all {@link ScopedRegistry} instances, e.g. for a test class or a single test.
+ * <p>
+ * A scope only applies while it is active on the current thread. A scope opened using {@link #open()} is active until
+ * it is closed, which must happen on the same thread. The scopes of {@link ScopedRegistryExtension} are only activated
+ * around the test methods, so they never stay active on a thread that may run the tests of other classes in between.
+ * Scopes can be nested, the entries of the inner scope take precedence. A scope may be shared by multiple threads
+ * (e.g. the scope of a test class whose tests run concurrently), so its entries are stored in concurrent maps.
+ * </p>
+ */
+@NullMarked
+public final class RegistryScope implements AutoCloseable {
+    private static final ThreadLocal<@Nullable RegistryScope> CURRENT = new ThreadLocal<>();
+
+    @Nullable
+    private final RegistryScope parent;
+
+    // The thread the scope was opened on and the scope active before, only set for scopes opened using open()
+    @Nullable
+    private final Thread owner;
+
+    @Nullable
+    private final RegistryScope previous;
+
+    private final Map<ScopedRegistry<?, ?>, Map<Object, Object>> entries = new ConcurrentHashMap<>();
+
+    private RegistryScope(@Nullable RegistryScope parent, @Nullable Thread owner, @Nullable RegistryScope previous) {
+        this.parent = parent;
+        this.owner = owner;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a new scope nested in the current scope of this thread and activates it.
+     * It must be closed on the same thread, e.g. using try-with-resources.
+     */
+    public static RegistryScope open() {
+        var current = CURRENT.get();
+        var scope = new RegistryScope(current, Thread.currentThread(), current);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Runs the given configuration without any active scope, so all of its registrations are global.
+     * This is required for configurations that may run while a scope is active, e.g. static initializers that are
+     * triggered by the first test.
+     */
+    public static void runGlobally(Runnable configuration) {
+        runWithin(null, configuration);
+    }
+
+    /**
+     * Discards the registrations of this scope. If it was opened using {@link #open()}, the scope that was active
+     * before is activated again.
+     *
+     * @throws IllegalStateException If the scope is closed on another thread than the one it was opened on, or if a
+     *                               scope nested in it is still active.
+     */
+    @Override
+    public void close() {
+        if (owner != null) {
+            if (owner != Thread.currentThread()) {
+                throw new IllegalStateException(
+                        "A registry scope must be closed on the thread that opened it (%s), but was closed on %s.".formatted(
+                                owner.getName(),
+                                Thread.currentThread().getName()
+                        )
+                );
+            }
+            if (CURRENT.get() != this) {
+                throw new IllegalStateException("A registry scope must not be closed before the scopes nested in it.");
+            }
+            CURRENT.set(previous);
+        }
+        entries.clear();
+    }
+
+    /**
+     * Creates a scope nested in the given scope without activating it, see {@link #activate(RegistryScope)}.
+     */
+    static RegistryScope detached(@Nullable RegistryScope parent) {
+        return new RegistryScope(parent, null, null);
+    }
+
+    /**
+     * Activates the given scope on this thread.
+     *
+     * @return The scope that was active before, it must be activated again afterward.
+     */
+    @Nullable
+    static RegistryScope activate(@Nullable RegistryScope scope) {
+        var current = CURRENT.get();
+        CURRENT.set(scope);
+        return current;
+    }
+
+    /**
+     * Runs the given action with the given scope active on this thread, e.g. on the worker threads of a parallel stream.
+     */
+    static void runWithin(@Nullable RegistryScope scope, Runnable action) {
+        var previousScope = activate(scope);
+        try {
+            action.run();
+        } finally {
+            activate(previousScope);
+        }
+    }
+
+    @Nullable
+    static RegistryScope current() {
+        return CURRENT.get();
+    }
+
+    @Nullable
+    RegistryScope parent() {
+        return parent;
+    }
+
+    <K, V> void register(ScopedRegistry<K, V> registry, K key, V value) {
+        entries.computeIfAbsent(registry, _ -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <K, V> Map<K, V> entriesOf(ScopedRegistry<K, V> registry) {
+        return (Map<K, V>) (Map<?, ?>) entries.get(registry);
+    }
+}
@@ -46,9 +46,11 @@ public final class Rule {
         return rule;
     }
 
+    /**
+     * Properties of sub-objects are referenced using dot notation (e.g. {@code address.street}) and list elements
+     * using an index (e.g. {@code items[0].qty}).
+     */
     private static void checkPropertyName(String property) {
-        if (property.contains(".")) {
-            throw new IllegalArgumentException("Referencing sub-objects using dot notation is not supported.");
-        }
+        PropertyPath.parse(property);
     }
 }
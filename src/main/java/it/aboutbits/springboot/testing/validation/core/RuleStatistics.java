@@ -0,0 +1,35 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The cost of checking a single rule of a parameter.
+ *
+ * @param parameterClass The class of the parameter under test.
+ * @param property       The property the rule applies to.
+ * @param valueSource    The value-source that produced the mutated values.
+ * @param args           The arguments of the rule, e.g. the minimum of a {@code min} rule.
+ * @param valueCount     The number of mutated values, i.e. the number of mutations checked.
+ * @param generationTime The time spent generating the mutated values.
+ * @param copyTime       The time spent creating the mutated copies of the parameter.
+ * @param validationTime The time spent validating the mutations (bean validation or calling the function under test).
+ */
+@NullMarked
+public record RuleStatistics(
+        Class<?> parameterClass,
+        String property,
+        Class<? extends ValueSource> valueSource,
+        List<@Nullable Object> args,
+        long valueCount,
+        Duration generationTime,
+        Duration copyTime,
+        Duration validationTime
+) {
+    public Duration totalTime() {
+        return generationTime.plus(copyTime).plus(validationTime);
+    }
+}
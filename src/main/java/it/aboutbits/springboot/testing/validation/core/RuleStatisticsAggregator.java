@@ -0,0 +1,97 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sums up the rule statistics of the whole test suite per parameter class, property, value-source and arguments.
+ * <p>
+ * The statistics summary and the validation report both render their output from it. It is thread-safe, because
+ * validation tests may run concurrently.
+ * </p>
+ */
+@NullMarked
+final class RuleStatisticsAggregator {
+    private final Map<Key, Totals> totals = new ConcurrentHashMap<>();
+
+    void add(RuleStatistics statistics) {
+        var key = new Key(
+                statistics.parameterClass(),
+                statistics.property(),
+                statistics.valueSource(),
+                statistics.args().stream().map(String::valueOf).toList()
+        );
+        var ruleTotals = totals.computeIfAbsent(key, _ -> new Totals());
+
+        ruleTotals.runs.increment();
+        ruleTotals.values.add(statistics.valueCount());
+        ruleTotals.generationNanos.add(statistics.generationTime().toNanos());
+        ruleTotals.copyNanos.add(statistics.copyTime().toNanos());
+        ruleTotals.validationNanos.add(statistics.validationTime().toNanos());
+    }
+
+    boolean isEmpty() {
+        return totals.isEmpty();
+    }
+
+    /**
+     * A snapshot of the totals of all rules, the most expensive rule first.
+     */
+    List<RuleTotals> snapshot() {
+        return totals.entrySet().stream()
+                .map(entry -> {
+                    var ruleTotals = entry.getValue();
+                    return new RuleTotals(
+                            entry.getKey(),
+                            ruleTotals.runs.sum(),
+                            ruleTotals.values.sum(),
+                            ruleTotals.generationNanos.sum(),
+                            ruleTotals.copyNanos.sum(),
+                            ruleTotals.validationNanos.sum()
+                    );
+                })
+                .sorted(Comparator.comparingLong(RuleTotals::totalNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * @param args The arguments of the rule as strings, so rules with equal arguments are aggregated.
+     */
+    record Key(
+            Class<?> parameterClass,
+            String property,
+            Class<? extends ValueSource> valueSource,
+            List<String> args
+    ) {
+    }
+
+    /**
+     * @param runs   The number of validation tests that checked the rule.
+     * @param values The number of mutated values over all runs.
+     */
+    record RuleTotals(
+            Key key,
+            long runs,
+            long values,
+            long generationNanos,
+            long copyNanos,
+            long validationNanos
+    ) {
+        long totalNanos() {
+            return generationNanos + copyNanos + validationNanos;
+        }
+    }
+
+    private static final class Totals {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder values = new LongAdder();
+        private final LongAdder generationNanos = new LongAdder();
+        private final LongAdder copyNanos = new LongAdder();
+        private final LongAdder validationNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,114 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the statistics of a single rule during one run.
+ * The mutations of a rule may be checked in parallel, so all counters are thread-safe.
+ */
+@NullMarked
+final class RuleStatisticsCollector {
+    private final ValidationPlan.PlannedRule rule;
+
+    private final LongAdder valueCount = new LongAdder();
+    private final LongAdder generationNanos = new LongAdder();
+    private final LongAdder copyNanos = new LongAdder();
+    private final LongAdder validationNanos = new LongAdder();
+
+    // The values produced in earlier rounds, only used by the exhaustive profile
+    private final Set<@Nullable Object> producedValues = new HashSet<>();
+    private final Set<Object> producedInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    RuleStatisticsCollector(ValidationPlan.PlannedRule rule) {
+        this.rule = rule;
+    }
+
+    ValidationPlan.PlannedRule rule() {
+        return rule;
+    }
+
+    /**
+     * Generates all values of the rule at once, so that the generation can be measured separately from the validation.
+     * The values are generated using a random seeded for this rule, see {@link SeededRandom}.
+     * <p>
+     * Round 0 produces the values of the value-source, reduced to the first one for {@link MutationProfile#SMOKE}.
+     * Every further round of {@link MutationProfile#EXHAUSTIVE} uses another seed and only returns the values that were
+     * not produced before, i.e. the additional random samples. It must only be called by one thread at a time.
+     * </p>
+     */
+    List<?> generateValues(ValidationPlan plan, Object parameter, MutationProfile profile, int round) {
+        var seedKey = "%s#%s#%s#%s".formatted(
+                plan.parameterClass().getName(),
+                rule.property(),
+                rule.rule().getValueSource().getName(),
+                Arrays.deepToString(rule.rule().getArgs())
+        );
+        if (round > 0) {
+            seedKey += "#" + round;
+        }
+
+        var start = System.nanoTime();
+        var values = SeededRandom.withSeed(seedKey, () -> plan.values(rule, parameter).toList());
+
+        if (profile == MutationProfile.SMOKE) {
+            values = values.isEmpty() ? values : values.subList(0, 1);
+        } else if (profile == MutationProfile.EXHAUSTIVE) {
+            values = values.stream().filter(this::isNewValue).toList();
+        }
+
+        generationNanos.add(System.nanoTime() - start);
+        valueCount.add(values.size());
+        return values;
+    }
+
+    private boolean isNewValue(@Nullable Object value) {
+        // Values without a cheap equals (e.g. large collections) are only recognized if the same instance is returned
+        if (value == null || isSimpleValue(value)) {
+            return producedValues.add(value);
+        }
+        return producedInstances.add(value);
+    }
+
+    private static boolean isSimpleValue(Object value) {
+        return value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || value instanceof TemporalAccessor
+                || value instanceof UUID;
+    }
+
+    void addCopyTime(long nanos) {
+        copyNanos.add(nanos);
+    }
+
+    void addValidationTime(long nanos) {
+        validationNanos.add(nanos);
+    }
+
+    RuleStatistics toStatistics(Class<?> parameterClass) {
+        return new RuleStatistics(
+                parameterClass,
+                rule.property(),
+                rule.rule().getValueSource(),
+                Collections.unmodifiableList(Arrays.asList(rule.rule().getArgs().clone())),
+                valueCount.sum(),
+                Duration.ofNanos(generationNanos.sum()),
+                Duration.ofNanos(copyNanos.sum()),
+                Duration.ofNanos(validationNanos.sum())
+        );
+    }
+}
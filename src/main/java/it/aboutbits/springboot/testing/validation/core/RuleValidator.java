@@ -2,21 +2,14 @@ package it.aboutbits.springboot.testing.validation.core;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import jakarta.validation.Valid;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
-import lombok.SneakyThrows;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -37,28 +30,65 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
  *
  * @parameterUnderTest A valid parameter that we can use as the basis for our mutations. Validation for the unmodified parameter MUST succeed.
  * @functionToCallWithParameter Optional. Instead of directly using bean validation, we can also validate a real function call. This makes sure the parameter is actually annotated with @Valid as well and that the class is using @Validated.
+ * @executableCall Optional. Validates the arguments of a method call using the ExecutableValidator without invoking the method.
+ * @validationMode How a mutation is checked. Bean validation can either validate the whole copy or only the mutated property.
+ * @parallel Whether the mutations are checked in parallel. Failures are still reported in the order of the rules.
+ * @mutationSettings How many values are checked for each rule, see {@link MutationProfile}.
  * @rules The list of rules to validate.
+ * @functions Custom checks of the valid parameter, e.g. that a class-level annotation is present.
+ * @crossFieldMutations Mutations that must be rejected by a class-level constraint, e.g. a to-date before the from-date.
  * @nonBeanTypes This is a whitelist that holds classes that don't implicitly require @Valid. We assume that @Valid is required
  * for all substructures.
+ * @validator The validator used for bean validation, see {@link ValidatorProvider}.
+ * @mutationValidator The validator used to check the mutations. It does not need to interpolate messages.
+ * @listeners Notified with the statistics of each rule, see {@link ValidationListener}.
  */
 @NullMarked
 final class RuleValidator<P> {
-    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
-
     record AssertionParameter<P>(
             P parameterUnderTest,
             @Nullable
             Consumer<?> functionToCallWithParameter,
+            @Nullable
+            ExecutableCall executableCall,
+            ValidationMode validationMode,
+            boolean parallel,
+            MutationSettings mutationSettings,
             List<Rule> rules,
             List<CustomValidationFunction> functions,
-            Set<Class<?>> nonBeanTypes
+            List<CrossFieldMutation> crossFieldMutations,
+            Set<Class<?>> nonBeanTypes,
+            Validator validator,
+            Validator mutationValidator,
+            List<ValidationListener> listeners
+    ) {
+    }
+
+    private record Mutation(
+            RuleStatisticsCollector statistics,
+            @Nullable
+            Object alteredValue,
+            boolean additional
     ) {
     }
 
     void assertValidation(AssertionParameter<P> assertionParameter) {
+        assertValidation(assertionParameter, null);
+    }
+
+    /**
+     * @param precompiledPlan The plan of a {@link ValidationSpec}, it is only used for fixtures of the exact class it
+     *                        was compiled for, subclasses get their own plan.
+     */
+    void assertValidation(AssertionParameter<P> assertionParameter, @Nullable ValidationPlan precompiledPlan) {
         var parameterUnderTest = assertionParameter.parameterUnderTest();
         @SuppressWarnings("unchecked")
         var functionToCallWithParameter = (Consumer<P>) assertionParameter.functionToCallWithParameter();
+        var executableCall = assertionParameter.validationMode() == ValidationMode.EXECUTABLE_VALIDATION
+                ? assertionParameter.executableCall()
+                : null;
+        var validationMode = assertionParameter.validationMode();
+        var parallel = assertionParameter.parallel();
         var rules = assertionParameter.rules();
         var functions = assertionParameter.functions();
         var nonBeanTypes = assertionParameter.nonBeanTypes();
@@ -77,48 +107,94 @@ final class RuleValidator<P> {
                     .isTrue();
         }
 
-        var validator = VALIDATOR_FACTORY.getValidator();
+        // The mutations are skipped if the same test already passed in a previous run, see IncrementalValidationCache
+        var cacheKey = IncrementalValidationCache.keyOf(assertionParameter);
+        if (cacheKey != null && IncrementalValidationCache.hasPassed(cacheKey)) {
+            return;
+        }
 
-        var propertiesWithRules = getPropertyNamesThatHaveRules(rules);
+        var validator = assertionParameter.validator();
+        var mutationValidator = assertionParameter.mutationValidator();
 
-        assertThatSuppliedParameterIsValid(
-                parameterUnderTest,
-                functionToCallWithParameter,
-                validator
-        );
+        // Resolves the properties and checks the annotations, this is cached per class and rule set
+        var plan = precompiledPlan != null && precompiledPlan.parameterClass() == parameterUnderTest.getClass()
+                ? precompiledPlan
+                : ValidationPlan.of(parameterUnderTest.getClass(), rules, nonBeanTypes, mutationValidator);
+        plan.assertThatNestedAnnotationsArePresent(parameterUnderTest);
+        plan.assertThatNestedPropertiesHaveRules(parameterUnderTest);
 
-        assertThatValidationIsCompliantForEachProperty(
-                rules,
+        assertThatSuppliedParameterIsValid(
                 parameterUnderTest,
                 functionToCallWithParameter,
+                executableCall,
                 validator
         );
 
-        assertThatValidAnnotationsArePresent(rules, propertiesWithRules, parameterUnderTest);
+        var statistics = plan.rules().stream()
+                .map(RuleStatisticsCollector::new)
+                .toList();
 
-        assertThatNullableAnnotationsArePresent(rules, propertiesWithRules, parameterUnderTest);
+        try {
+            assertThatValidationIsCompliantForEachProperty(
+                    plan,
+                    statistics,
+                    parameterUnderTest,
+                    functionToCallWithParameter,
+                    executableCall,
+                    validationMode,
+                    parallel,
+                    assertionParameter.mutationSettings(),
+                    mutationValidator
+            );
 
-        assertThatAllPropertiesHaveRules(parameterUnderTest, propertiesWithRules);
+            assertThatCrossFieldMutationsAreRejected(
+                    plan,
+                    assertionParameter.crossFieldMutations(),
+                    parameterUnderTest,
+                    functionToCallWithParameter,
+                    executableCall,
+                    mutationValidator
+            );
 
-        checkIfNestedValidationIsEnabledForNestedRecords(parameterUnderTest, nonBeanTypes);
-    }
+            if (assertionParameter.mutationSettings().profile() == MutationProfile.FUZZ
+                    && functionToCallWithParameter == null) {
+                ValidationFuzzer.assertThatFuzzedMutationsAreCompliant(
+                        plan,
+                        parameterUnderTest,
+                        executableCall,
+                        assertionParameter.mutationSettings(),
+                        mutationValidator
+                );
+            }
+        } finally {
+            publishStatistics(plan, statistics, assertionParameter.listeners());
+        }
 
-    private static HashSet<String> getPropertyNamesThatHaveRules(List<Rule> rules) {
-        // Create a set to keep track of properties that have validation rules
-        var propertiesWithRules = new HashSet<String>();
-        for (var rule : rules) {
-            propertiesWithRules.add(rule.getProperty());
+        if (cacheKey != null) {
+            IncrementalValidationCache.markPassed(cacheKey, plan.parameterClass());
         }
-        return propertiesWithRules;
     }
 
     private static <P> void assertThatSuppliedParameterIsValid(
             P parameterUnderTest,
             @Nullable
             Consumer<P> functionToCallWithParameter,
+            @Nullable
+            ExecutableCall executableCall,
             Validator validator
     ) {
-        if (functionToCallWithParameter != null) {
+        if (executableCall != null) {
+            var violatingFieldMessages = getViolatingFieldMessages(
+                    new HashSet<>(executableCall.validate(validator, parameterUnderTest))
+            ).toList();
+
+            assertThat(violatingFieldMessages)
+                    .withFailMessage(
+                            "The supplied parameter violates the validation rules. The supplied parameter is not valid: %s",
+                            String.join(" | ", violatingFieldMessages)
+                    )
+                    .isEmpty();
+        } else if (functionToCallWithParameter != null) {
             try {
                 functionToCallWithParameter.accept(parameterUnderTest);
             } catch (ConstraintViolationException e) {
@@ -160,267 +236,274 @@ final class RuleValidator<P> {
     }
 
     private static <P> void assertThatValidationIsCompliantForEachProperty(
-            List<Rule> rules,
+            ValidationPlan plan,
+            List<RuleStatisticsCollector> statistics,
             P parameterUnderTest,
             @Nullable
             Consumer<P> functionToCallWithParameter,
+            @Nullable
+            ExecutableCall executableCall,
+            ValidationMode validationMode,
+            boolean parallel,
+            MutationSettings mutationSettings,
             Validator validator
     ) {
-        // Iterate through the rules and validate each property
-        for (var rule : rules) {
-            var values = getValues(rule, parameterUnderTest);
-            values.forEach(alteredValue -> {
-                // Create a copy of the original object
-                var copy = createCopyWithAlteredProperty(parameterUnderTest, rule.getProperty(), alteredValue);
-
-                if (functionToCallWithParameter != null) {
-                    assertThatExceptionOfType(ConstraintViolationException.class).isThrownBy(
-                            () -> functionToCallWithParameter.accept(copy)
-                    ).withMessageContaining(rule.getProperty());
-                } else {
-
-                    // Use Bean Validation to validate the copy
-                    var violations = validator.validate(copy);
-
-                    var violatingProperties = violations.stream().map(
-                            f -> f.getPropertyPath().toString()
-                    ).collect(Collectors.toSet());
-
-                    assertThat(violatingProperties)
-                            .withFailMessage("Validation failed for property: " + rule.getProperty() + " [" + alteredValue + "]")
-                            .contains(rule.getProperty());
+        var profile = mutationSettings.profile();
+        var rounds = profile == MutationProfile.EXHAUSTIVE ? MutationSettings.EXHAUSTIVE_ROUNDS : 0;
+        // The budget only limits the additional samples, so all values of the standard profile are always checked
+        var deadline = mutationSettings.deadline();
+
+        if (!parallel) {
+            // Iterate through the rules and validate each property, round by round so that all rules get samples
+            for (var round = 0; round <= rounds; round++) {
+                for (var ruleStatistics : statistics) {
+                    if (round > 0 && System.nanoTime() > deadline) {
+                        return;
+                    }
+
+                    var values = ruleStatistics.generateValues(plan, parameterUnderTest, profile, round);
+                    values.forEach(alteredValue -> assertThatMutationIsCompliant(
+                            plan,
+                            ruleStatistics,
+                            alteredValue,
+                            parameterUnderTest,
+                            functionToCallWithParameter,
+                            executableCall,
+                            validationMode,
+                            validator
+                    ));
                 }
-            });
+            }
+            return;
         }
-    }
 
-    private static <P> void assertThatValidAnnotationsArePresent(
-            List<Rule> rules,
-            HashSet<String> propertiesWithRules,
-            P parameterUnderTest
-    ) {
-        var propertiesWithValid = rules.stream()
-                .filter(Rule::isRequireValid)
-                .map(Rule::getProperty)
-                .collect(Collectors.toSet());
-
-        for (var property : propertiesWithValid) {
-            propertiesWithRules.add(property);
-
-            assertThat(hasValidAnnotation(property, parameterUnderTest))
-                    .withFailMessage("Missing @Valid annotation for property: " + property)
-                    .isTrue();
+        // Every mutation is an independent copy, so the whole rule x value matrix can be checked in parallel
+        var mutations = new ArrayList<Mutation>();
+        for (var round = 0; round <= rounds; round++) {
+            var isAdditional = round > 0;
+            for (var ruleStatistics : statistics) {
+                ruleStatistics.generateValues(plan, parameterUnderTest, profile, round).forEach(
+                        alteredValue -> mutations.add(new Mutation(ruleStatistics, alteredValue, isAdditional))
+                );
+            }
         }
-    }
 
-    private static <P> void assertThatNullableAnnotationsArePresent(
-            List<Rule> rules,
-            HashSet<String> propertiesWithRules,
-            P parameterUnderTest
-    ) {
-        var propertiesWithNullable = rules.stream()
-                .filter(Rule::isRequireNullable)
-                .map(Rule::getProperty)
-                .collect(Collectors.toSet());
-
-        for (var property : propertiesWithNullable) {
-            propertiesWithRules.add(property);
-
-            assertThat(hasNullableAnnotation(property, parameterUnderTest))
-                    .withFailMessage("Missing @Nullable annotation for property: " + property + ". Note: This does not work with `org.jetbrains.annotations.Nullable` because of their retention policy. Use `org.springframework.lang.Nullable` or `jakarta.annotation.Nullable` instead.")
-                    .isTrue();
+        // The parallel stream keeps the encounter order, so the failures are reported deterministically
+        var failures = mutations.parallelStream()
+                .map(mutation -> {
+                    if (mutation.additional() && System.nanoTime() > deadline) {
+                        return Optional.<AssertionError>empty();
+                    }
+
+                    try {
+                        assertThatMutationIsCompliant(
+                                plan,
+                                mutation.statistics(),
+                                mutation.alteredValue(),
+                                parameterUnderTest,
+                                functionToCallWithParameter,
+                                executableCall,
+                                validationMode,
+                                validator
+                        );
+                        return Optional.<AssertionError>empty();
+                    } catch (AssertionError e) {
+                        return Optional.of(e);
+                    }
+                })
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (!failures.isEmpty()) {
+            var error = new AssertionError(
+                    "%d of %d mutations failed:%n%s".formatted(
+                            failures.size(),
+                            mutations.size(),
+                            failures.stream()
+                                    .map(AssertionError::getMessage)
+                                    .collect(Collectors.joining(System.lineSeparator()))
+                    )
+            );
+            failures.forEach(error::addSuppressed);
+            throw error;
         }
     }
 
-    private static <P> void assertThatAllPropertiesHaveRules(
-            P parameterUnderTest,
-            HashSet<String> propertiesWithRules
-    ) {
-        // Check if all properties have rules (you can also handle this differently based on your needs)
-        var allProperties = getAllPropertiesOf(parameterUnderTest);
-
-        var missingProperties = new HashSet<>(allProperties);
-        missingProperties.removeAll(propertiesWithRules);
-
-        assertThat(missingProperties)
-                .withFailMessage("Not all properties have validation rules: " + "[" + String.join(
-                        ", ",
-                        missingProperties
-                ) + "]")
-                .isEmpty();
-    }
-
-    private static <P> void checkIfNestedValidationIsEnabledForNestedRecords(
+    private static <P> void assertThatCrossFieldMutationsAreRejected(
+            ValidationPlan plan,
+            List<CrossFieldMutation> crossFieldMutations,
             P parameterUnderTest,
-            Set<Class<?>> nonBeanTypes
+            @Nullable
+            Consumer<P> functionToCallWithParameter,
+            @Nullable
+            ExecutableCall executableCall,
+            Validator validator
     ) {
-        var clazz = parameterUnderTest.getClass();
-
-        for (var field : clazz.getDeclaredFields()) {
-            var isRecord = Record.class.isAssignableFrom(field.getType());
-            if (isRecord) {
-                var isBeanType = nonBeanTypes.stream().noneMatch(type -> type.isAssignableFrom(field.getType()));
-
-                if (isBeanType) {
-                    var maybeAnnotation = field.getAnnotation(Valid.class);
-                    assertThat(maybeAnnotation).withFailMessage("Missing @Valid annotation for property: " + field.getName() + ". Note: This is implicitly assumed for nested records. You can configure `BaseValidationAssert.registerNonBeanType` to add exceptions.")
-                            .isNotNull();
-                }
-            }
-        }
-    }
-
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static <P> Stream<?> getValues(Rule rule, P parameterUnderTest) {
-        var source = (ValueSource) rule.getValueSource().getDeclaredConstructors()[0].newInstance();
-
-        return source.values(getPropertyType(rule.getProperty(), parameterUnderTest), rule.getArgs());
-    }
-
-    @SuppressWarnings({"unchecked", "java:S3011"})
-    private static <T> T createCopyWithAlteredProperty(T original, String property, Object alteredValue) {
-        try {
-            // Get the class of the original object
-            var clazz = (Class<T>) original.getClass();
-
-            // Get all the declared fields of the class
-            var fields = getAllFields(clazz);
-
-            // Create an array to hold the values of the original object's properties
-            var propertyValues = new Object[fields.length];
-
-            // Get the types of the fields
-            var parameterTypes = new Class<?>[fields.length];
-
-            // Populate the array with the current property values
-            for (var i = 0; i < fields.length; i++) {
-                fields[i].setAccessible(true);
-                propertyValues[i] = fields[i].get(original);
-                parameterTypes[i] = fields[i].getType();
-            }
+        for (var mutation : crossFieldMutations) {
+            var values = mutation.values()
+                    .apply(property -> plan.propertyValue(parameterUnderTest, property))
+                    .toList();
 
-            // Create an array to hold the new property values
-            var newPropertyValues = new Object[propertyValues.length];
+            for (var alteredValue : values) {
+                var copy = plan.copyProperty(parameterUnderTest, mutation.property(), alteredValue);
 
-            // Find the index of the property to be altered
-            var propertyIndex = -1;
-            for (var i = 0; i < fields.length; i++) {
-                if (fields[i].getName().equals(property)) {
-                    propertyIndex = i;
-                    break;
+                Set<? extends ConstraintViolation<?>> violations;
+                if (executableCall != null) {
+                    violations = executableCall.validate(validator, copy);
+                } else if (functionToCallWithParameter != null) {
+                    violations = getViolationsOfCall(functionToCallWithParameter, copy);
+                } else {
+                    violations = validator.validate(copy);
                 }
-            }
 
-            // Replace the value of the altered property
-            newPropertyValues[propertyIndex] = alteredValue;
-
-            // Copy the other property values
-            for (var i = 0; i < propertyValues.length; i++) {
-                if (i != propertyIndex) {
-                    newPropertyValues[i] = propertyValues[i];
-                }
+                var isRejected = violations.stream().anyMatch(
+                        violation -> violation.getConstraintDescriptor()
+                                .getAnnotation()
+                                .annotationType() == mutation.constraint()
+                );
+                assertThat(isRejected)
+                        .withFailMessage(
+                                "Validation failed for property: %s [%s], %s must be rejected by @%s",
+                                mutation.property(),
+                                alteredValue,
+                                mutation.description(),
+                                mutation.constraint().getSimpleName()
+                        )
+                        .isTrue();
             }
-
-            return createCopyWithAlteredValues(clazz, parameterTypes, newPropertyValues, fields);
-        } catch (NoSuchMethodException e) {
-            throw new RuleValidationException(
-                    "Error creating copy with altered property. Maybe there is no eligible-constructor?",
-                    e
-            );
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-            throw new RuleValidationException("Error creating copy with altered property: " + property, e);
         }
     }
 
-    @SuppressWarnings("java:S3011")
-    private static <T> T createCopyWithAlteredValues(
-            Class<T> clazz,
-            Class<?>[] parameterTypes,
-            Object[] newPropertyValues,
-            Field[] fields
-    ) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        T instance = null;
+    private static <P> Set<? extends ConstraintViolation<?>> getViolationsOfCall(
+            Consumer<P> functionToCallWithParameter,
+            P copy
+    ) {
         try {
-            // Get the constructor that accepts all properties as arguments
-            var constructor = clazz.getDeclaredConstructor(parameterTypes);
-            constructor.setAccessible(true);
-
-            // Create a copy with the altered property value
-            instance = constructor.newInstance(newPropertyValues);
-        } catch (NoSuchMethodException _) {
-            // Get the no args constructor
-            var constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-
-            // Create a copy with the altered property value
-            instance = constructor.newInstance();
-            for (var i = 0; i < newPropertyValues.length; i++) {
-                fields[i].setAccessible(true);
-                fields[i].set(instance, newPropertyValues[i]);
-            }
+            functionToCallWithParameter.accept(copy);
+            return Set.of();
+        } catch (ConstraintViolationException e) {
+            return e.getConstraintViolations();
         }
-        return instance;
     }
 
-    private static <T> Set<String> getAllPropertiesOf(T object) {
-        var clazz = object.getClass();
+    private static <P> void assertThatMutationIsCompliant(
+            ValidationPlan plan,
+            RuleStatisticsCollector statistics,
+            @Nullable Object alteredValue,
+            P parameterUnderTest,
+            @Nullable
+            Consumer<P> functionToCallWithParameter,
+            @Nullable
+            ExecutableCall executableCall,
+            ValidationMode validationMode,
+            Validator validator
+    ) {
+        var rule = statistics.rule();
+
+        if (executableCall != null) {
+            // Only the arguments are validated, the method itself is never invoked
+            var start = System.nanoTime();
+            var copy = plan.copy(parameterUnderTest, rule, alteredValue);
+            var copied = System.nanoTime();
+            statistics.addCopyTime(copied - start);
+
+            var violatingProperties = executableCall.getViolatingProperties(validator, copy);
+            statistics.addValidationTime(System.nanoTime() - copied);
+
+            assertThat(violatingProperties)
+                    .withFailMessage("Validation failed for property: " + rule.property() + " [" + alteredValue + "]")
+                    .contains(rule.property());
+        } else if (functionToCallWithParameter != null) {
+            // Create a copy of the original object
+            var start = System.nanoTime();
+            var copy = plan.copy(parameterUnderTest, rule, alteredValue);
+            var copied = System.nanoTime();
+            statistics.addCopyTime(copied - start);
 
-        var properties = new HashSet<String>();
-        for (var field : clazz.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) {
-                continue;
+            try {
+                assertThatExceptionOfType(ConstraintViolationException.class).isThrownBy(
+                        () -> functionToCallWithParameter.accept(copy)
+                ).withMessageContaining(rule.property());
+            } finally {
+                statistics.addValidationTime(System.nanoTime() - copied);
             }
-
-            properties.add(field.getName());
+        } else {
+            // Nested properties are always validated on a copy, validateValue only supports properties of the class.
+            // It does not cascade either, so @Valid properties are validated on a copy as well.
+            var validateValue = validationMode == ValidationMode.PROPERTY_VALIDATION
+                    && rule.path().isSimple()
+                    && !rule.cascaded();
+            var violatingProperties = validateValue
+                    ? getViolatingPropertiesOfValue(plan, statistics, parameterUnderTest, alteredValue, validator)
+                    : getViolatingPropertiesOfCopy(plan, statistics, parameterUnderTest, alteredValue, validator);
+
+            assertThat(violatingProperties)
+                    .withFailMessage("Validation failed for property: " + rule.property() + " [" + alteredValue + "]")
+                    .contains(rule.property());
         }
-
-        return properties;
     }
 
-    private static Class<?> getPropertyType(String propertyName, Object object) {
-        var field = getFieldOrFail(propertyName, object);
-
-        return field.getType();
-    }
-
-    private static <T> boolean hasValidAnnotation(String propertyName, T object) {
-        var field = getFieldOrFail(propertyName, object);
-
-        return field.getAnnotation(Valid.class) != null;
-    }
-
-    private static boolean hasNullableAnnotation(String propertyName, Object object) {
-        var field = getFieldOrFail(propertyName, object);
-
-        return field.getAnnotatedType().isAnnotationPresent(org.jspecify.annotations.Nullable.class)
-                || field.isAnnotationPresent(jakarta.annotation.Nullable.class)
-                || field.isAnnotationPresent(org.springframework.lang.Nullable.class);
+    private static <P> Set<String> getViolatingPropertiesOfCopy(
+            ValidationPlan plan,
+            RuleStatisticsCollector statistics,
+            P parameterUnderTest,
+            @Nullable Object alteredValue,
+            Validator validator
+    ) {
+        // Create a copy of the original object
+        var start = System.nanoTime();
+        var copy = plan.copy(parameterUnderTest, statistics.rule(), alteredValue);
+        var copied = System.nanoTime();
+        statistics.addCopyTime(copied - start);
+
+        // Use Bean Validation to validate the copy
+        var violations = validator.validate(copy);
+        statistics.addValidationTime(System.nanoTime() - copied);
+
+        return violations.stream().map(
+                f -> f.getPropertyPath().toString()
+        ).collect(Collectors.toSet());
     }
 
-    private static Field getFieldOrFail(String propertyName, Object object) {
-        var clazz = object.getClass();
+    @SuppressWarnings("unchecked")
+    private static <P> Set<String> getViolatingPropertiesOfValue(
+            ValidationPlan plan,
+            RuleStatisticsCollector statistics,
+            P parameterUnderTest,
+            @Nullable Object alteredValue,
+            Validator validator
+    ) {
+        var rule = statistics.rule();
+        var parameterClass = (Class<P>) plan.parameterClass();
+
+        // Only evaluate the constraints of the mutated property, no copy required
+        var start = System.nanoTime();
+        var violations = validator.validateValue(parameterClass, rule.property(), alteredValue);
+        statistics.addValidationTime(System.nanoTime() - start);
+        if (!violations.isEmpty()) {
+            return Set.of(rule.property());
+        }
 
-        var field = Arrays.stream(getAllFields(clazz))
-                .filter(
-                        f -> f.getName().equals(propertyName)
-                )
-                .findFirst();
+        // Class-level constraints (e.g. cross-field validations) can only be evaluated on a whole copy
+        if (plan.hasClassLevelConstraints()) {
+            return getViolatingPropertiesOfCopy(plan, statistics, parameterUnderTest, alteredValue, validator);
+        }
 
-        return field.orElseThrow(() -> new RuleValidationException("Property does not exist: " + propertyName));
+        return Set.of();
     }
 
-    private static Field[] getAllFields(Class<?> initialClazz) {
-        Class<?> clazz = initialClazz;
-
-        var fields = new ArrayList<Field>();
-        while (clazz != null) {
-            var newFields = Arrays.stream(clazz.getDeclaredFields())
-                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
-                    .toList();
+    private static void publishStatistics(
+            ValidationPlan plan,
+            List<RuleStatisticsCollector> statistics,
+            List<ValidationListener> listeners
+    ) {
+        if (listeners.isEmpty()) {
+            return;
+        }
 
-            fields.addAll(newFields);
-            clazz = clazz.getSuperclass();
+        for (var ruleStatistics : statistics) {
+            var result = ruleStatistics.toStatistics(plan.parameterClass());
+            listeners.forEach(listener -> listener.ruleChecked(result));
         }
-        return fields.toArray(new Field[0]);
     }
 }
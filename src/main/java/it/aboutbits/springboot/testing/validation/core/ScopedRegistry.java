@@ -0,0 +1,115 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A thread-safe registry for the configuration of the validation tests (e.g. the types supported by a value-source).
+ * <p>
+ * The global entries are published as immutable copy-on-write snapshots, so lookups never block and never see a
+ * partially updated map. Registrations made while a {@link RegistryScope} is active on the current thread only apply
+ * to that scope and are discarded when it is closed. Tests can therefore run in parallel and still register their
+ * own entries, see {@link ScopedRegistryExtension}.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+@NullMarked
+public final class ScopedRegistry<K, V> {
+    // All registries, so their entries can be included in the hash of the IncrementalValidationCache
+    private static final Set<ScopedRegistry<?, ?>> INSTANCES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
+    private volatile Map<K, V> entries = Map.of();
+
+    public ScopedRegistry() {
+        INSTANCES.add(this);
+    }
+
+    /**
+     * Register an entry in the current scope, or globally if no scope is active.
+     */
+    public void register(K key, V value) {
+        var scope = RegistryScope.current();
+        if (scope != null) {
+            scope.register(this, key, value);
+        } else {
+            registerGlobally(key, value);
+        }
+    }
+
+    /**
+     * Register an entry globally, independent of the current scope. Used for the built-in entries.
+     */
+    public synchronized void registerGlobally(K key, V value) {
+        var copy = new HashMap<>(entries);
+        copy.put(key, value);
+        entries = Map.copyOf(copy);
+    }
+
+    /**
+     * The entry of the innermost scope that defines the key, or the global one.
+     */
+    @Nullable
+    public V get(K key) {
+        for (var scope = RegistryScope.current(); scope != null; scope = scope.parent()) {
+            var scopedEntries = scope.entriesOf(this);
+            if (scopedEntries != null && scopedEntries.containsKey(key)) {
+                return scopedEntries.get(key);
+            }
+        }
+        return entries.get(key);
+    }
+
+    static List<ScopedRegistry<?, ?>> instances() {
+        synchronized (INSTANCES) {
+            return List.copyOf(INSTANCES);
+        }
+    }
+
+    /**
+     * Whether any of the scopes active on the current thread has entries of this registry.
+     */
+    boolean hasScopedEntries() {
+        for (var scope = RegistryScope.current(); scope != null; scope = scope.parent()) {
+            if (scope.entriesOf(this) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An immutable snapshot of all entries visible on the current thread.
+     */
+    public Map<K, V> snapshot() {
+        var scope = RegistryScope.current();
+        if (scope == null) {
+            return entries;
+        }
+
+        var scopes = new ArrayList<RegistryScope>();
+        for (var current = scope; current != null; current = current.parent()) {
+            scopes.addFirst(current);
+        }
+
+        var merged = new HashMap<>(entries);
+        for (var current : scopes) {
+            var scopedEntries = current.entriesOf(this);
+            if (scopedEntries != null) {
+                merged.putAll(scopedEntries);
+            }
+        }
+        return Map.copyOf(merged);
+    }
+}
@@ -0,0 +1,126 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+
+/**
+ * Creates a {@link RegistryScope} for each test class and each test, so the registrations made in
+ * {@code @BeforeAll} / {@code @BeforeEach} methods or in the tests themselves (e.g.
+ * {@link BaseValidationAssert#registerNonBeanType(Class)} or {@code registerType} of a value-source) only apply to the
+ * class or test and are removed afterward.
+ * <p>
+ * The scope of a test class is only kept in the extension context. It is activated while its {@code @BeforeAll} and
+ * {@code @AfterAll} methods run, and each test activates its own scope nested in it from {@code beforeEach} to
+ * {@code afterEach}. With parallel execution, a worker thread may run the tests of other classes while a class is
+ * running, so no scope stays active on a thread outside of these invocations.
+ * </p>
+ * <p>
+ * Use it with {@code @ExtendWith(ScopedRegistryExtension.class)} on the test class.
+ * </p>
+ */
+@NullMarked
+public final class ScopedRegistryExtension implements
+        BeforeAllCallback,
+        AfterAllCallback,
+        BeforeEachCallback,
+        AfterEachCallback,
+        InvocationInterceptor {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(
+            ScopedRegistryExtension.class
+    );
+
+    private static final String CLASS_SCOPE = "classScope";
+
+    private static final String TEST_ACTIVATION = "testActivation";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // The store also looks up the stores of the parent contexts, so a @Nested class is nested in its outer class
+        var store = context.getStore(NAMESPACE);
+        store.put(CLASS_SCOPE, RegistryScope.detached(store.get(CLASS_SCOPE, RegistryScope.class)));
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        var scope = context.getStore(NAMESPACE).remove(CLASS_SCOPE, RegistryScope.class);
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    @Override
+    public void interceptBeforeAllMethod(
+            Invocation<@Nullable Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext
+    ) throws Throwable {
+        proceedWithin(classScope(extensionContext), invocation);
+    }
+
+    @Override
+    public void interceptAfterAllMethod(
+            Invocation<@Nullable Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext
+    ) throws Throwable {
+        proceedWithin(classScope(extensionContext), invocation);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        var scope = RegistryScope.detached(classScope(context));
+        context.getStore(NAMESPACE).put(
+                TEST_ACTIVATION,
+                new Activation(scope, RegistryScope.activate(scope), Thread.currentThread())
+        );
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        var activation = context.getStore(NAMESPACE).remove(TEST_ACTIVATION, Activation.class);
+        if (activation == null) {
+            return;
+        }
+
+        activation.scope().close();
+        if (activation.thread() != Thread.currentThread()) {
+            throw new IllegalStateException(
+                    "The registry scope of %s was activated on %s, but the test finished on %s.".formatted(
+                            context.getDisplayName(),
+                            activation.thread().getName(),
+                            Thread.currentThread().getName()
+                    )
+            );
+        }
+        RegistryScope.activate(activation.previous());
+    }
+
+    @Nullable
+    private static RegistryScope classScope(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(CLASS_SCOPE, RegistryScope.class);
+    }
+
+    private static void proceedWithin(
+            @Nullable RegistryScope scope,
+            Invocation<@Nullable Void> invocation
+    ) throws Throwable {
+        var previous = RegistryScope.activate(scope);
+        try {
+            invocation.proceed();
+        } finally {
+            RegistryScope.activate(previous);
+        }
+    }
+
+    private record Activation(RegistryScope scope, @Nullable RegistryScope previous, Thread thread) {
+    }
+}
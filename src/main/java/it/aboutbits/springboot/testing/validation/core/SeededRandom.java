@@ -0,0 +1,93 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * The source of randomness of all value-sources.
+ * <p>
+ * All random values are derived from a single seed per test suite, which is logged once. Each thread gets its own
+ * {@link SplittableRandom}, so value-sources do not contend on a shared instance when tests run in parallel.
+ * Additionally, the values of each rule are generated using a random seeded from the suite seed and the rule itself.
+ * A failing mutation can therefore be replayed by running the test again with
+ * {@code -Dvalidation.random.seed=<seed>}, independent of the order and the threads the tests ran on.
+ * </p>
+ */
+@Slf4j
+@NullMarked
+public final class SeededRandom {
+    public static final String SEED_PROPERTY = "validation.random.seed";
+
+    private static final long SUITE_SEED = resolveSuiteSeed();
+
+    private static final SplittableRandom ROOT = new SplittableRandom(SUITE_SEED);
+
+    private static final ThreadLocal<SplittableRandom> CURRENT = ThreadLocal.withInitial(SeededRandom::split);
+
+    private SeededRandom() {
+    }
+
+    /**
+     * The seed all random values of this test suite are derived from.
+     */
+    public static long suiteSeed() {
+        return SUITE_SEED;
+    }
+
+    /**
+     * The random of the current thread. It must not be shared with other threads.
+     */
+    public static SplittableRandom current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the supplier with the random of the current thread seeded from the suite seed and the given key.
+     * The same key always produces the same values within a test suite.
+     */
+    static <T> T withSeed(String key, Supplier<T> supplier) {
+        var previous = CURRENT.get();
+        CURRENT.set(new SplittableRandom(SUITE_SEED ^ mix(fnv1a64(key))));
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static SplittableRandom split() {
+        synchronized (ROOT) {
+            return ROOT.split();
+        }
+    }
+
+    private static long resolveSuiteSeed() {
+        var configuredSeed = System.getProperty(SEED_PROPERTY);
+        var seed = configuredSeed != null ? Long.parseLong(configuredSeed.trim()) : System.nanoTime();
+
+        log.info("Validation value-sources use the random seed {}. Use -D{}={} to replay.", seed, SEED_PROPERTY, seed);
+        return seed;
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes, String.hashCode has only 32 bits and collides for short keys
+    private static long fnv1a64(String key) {
+        var hash = 0xCBF29CE484222325L;
+        for (var b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // Spreads the bits of the key hash over the whole long (finalizer of SplitMix64)
+    private static long mix(long value) {
+        var z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,29 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.MessageInterpolator;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Locale;
+
+/**
+ * A message interpolator that returns the message template as is.
+ * The mutation checks only look at the property paths of the violations, so resolving the message bundles and
+ * evaluating expression language for every violation is wasted effort.
+ */
+@NullMarked
+final class TemplateMessageInterpolator implements MessageInterpolator {
+    static final TemplateMessageInterpolator INSTANCE = new TemplateMessageInterpolator();
+
+    private TemplateMessageInterpolator() {
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return messageTemplate;
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        return messageTemplate;
+    }
+}
@@ -0,0 +1,224 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ScopedRegistry} of the generators of a value-source per type, which also resolves the generators of
+ * supertypes.
+ * <p>
+ * If a type has no generator of its own, the generator of its closest superclass is used, then the one of its closest
+ * interface and finally the one of {@link Object}. E.g. a {@code CopyOnWriteArrayList} uses the generator of
+ * {@code List}. The resolved generator is cached per class, so lookups only walk the hierarchy once. The cache is
+ * reset by global registrations, scoped registrations are resolved without the cache while their scope is active.
+ * </p>
+ * <p>
+ * A value produced by the generator of a supertype is passed through unchanged if it is already an instance of the
+ * requested type, e.g. the virtual collections of the size related value-sources for a {@code SequencedCollection}.
+ * Otherwise, it is converted using the public constructor of the requested type accepting the value with the most
+ * specific parameter type (e.g. {@code new CopyOnWriteArrayList<>(Collection)}), which copies the value. If there is no
+ * such constructor or the choice is ambiguous, the type has to be registered explicitly, which also avoids the copy.
+ * </p>
+ * <p>
+ * Additional generators are discovered using {@link ValueSourceExtension} before the first lookup.
+ * </p>
+ *
+ * @param <V> The type of the generators.
+ */
+@NullMarked
+public final class TypeRegistry<V> {
+    // The type itself, its superclasses, its interfaces (closest first) and finally Object
+    private static final ClassValue<List<Class<?>>> HIERARCHIES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            return hierarchyOf(type);
+        }
+    };
+
+    private static final Map<ConversionKey, Optional<Constructor<?>>> CONVERSIONS = new ConcurrentHashMap<>();
+
+    private final ScopedRegistry<Class<?>, V> registry = new ScopedRegistry<>();
+
+    // Replaced by every global registration, so a stale resolution is never returned
+    private volatile ClassValue<Optional<Resolution<V>>> resolutions = newResolutions();
+
+    /**
+     * Register a generator in the current scope, or globally if no scope is active.
+     */
+    public void register(Class<?> type, V generator) {
+        if (RegistryScope.current() != null) {
+            registry.register(type, generator);
+        } else {
+            registerGlobally(type, generator);
+        }
+    }
+
+    /**
+     * Register a generator globally, independent of the current scope. Used for the built-in generators.
+     */
+    public void registerGlobally(Class<?> type, V generator) {
+        registry.registerGlobally(type, generator);
+        resolutions = newResolutions();
+    }
+
+    /**
+     * The values of the generator of the type or of its closest supertype, converted to the type if required.
+     *
+     * @param type      The requested type, e.g. the class of the mutated property.
+     * @param generator Calls the generator with the arguments of the rule.
+     * @return The values or null if there is no generator for the type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable Stream<@Nullable T> values(Class<T> type, Function<? super V, ? extends Stream<?>> generator) {
+        var resolution = resolve(type);
+        if (resolution == null) {
+            return null;
+        }
+
+        var values = generator.apply(resolution.generator());
+        if (resolution.type() == type) {
+            return (Stream<@Nullable T>) values;
+        }
+        return values.map(value -> (@Nullable T) convert(value, type));
+    }
+
+    @Nullable
+    private Resolution<V> resolve(Class<?> type) {
+        ExtensionLoader.ensureLoaded();
+
+        if (!registry.hasScopedEntries()) {
+            return resolutions.get(type).orElse(null);
+        }
+        return resolveUncached(type).orElse(null);
+    }
+
+    private Optional<Resolution<V>> resolveUncached(Class<?> type) {
+        for (var candidate : HIERARCHIES.get(type)) {
+            var generator = registry.get(candidate);
+            if (generator != null) {
+                return Optional.of(new Resolution<>(candidate, generator));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private ClassValue<Optional<Resolution<V>>> newResolutions() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<Resolution<V>> computeValue(Class<?> type) {
+                return resolveUncached(type);
+            }
+        };
+    }
+
+    @Nullable
+    private static Object convert(@Nullable Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+
+        var constructor = CONVERSIONS.computeIfAbsent(
+                new ConversionKey(value.getClass(), type),
+                key -> findConversion(key.source(), key.target())
+        ).orElseThrow(() -> new IllegalArgumentException(
+                "Property class not supported! The value-source produces %s for %s, register the type explicitly."
+                        .formatted(value.getClass().getName(), type.getName())
+        ));
+
+        try {
+            return constructor.newInstance(value);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new RuleValidationException("Error converting the value to " + type.getName(), e);
+        }
+    }
+
+    private static Optional<Constructor<?>> findConversion(Class<?> source, Class<?> target) {
+        if (target.isInterface() || Modifier.isAbstract(target.getModifiers())) {
+            return Optional.empty();
+        }
+
+        var candidates = Arrays.stream(target.getConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 1)
+                .filter(constructor -> constructor.getParameterTypes()[0].isAssignableFrom(source))
+                .toList();
+
+        // Like overload resolution, the most specific parameter type wins, ambiguous constructors are not used
+        return candidates.stream()
+                .filter(constructor -> candidates.stream().allMatch(
+                        other -> other.getParameterTypes()[0].isAssignableFrom(constructor.getParameterTypes()[0])
+                ))
+                .<Constructor<?>>map(constructor -> constructor)
+                .findFirst();
+    }
+
+    private static List<Class<?>> hierarchyOf(Class<?> type) {
+        var hierarchy = new LinkedHashSet<Class<?>>();
+
+        var classes = new ArrayList<Class<?>>();
+        for (@Nullable Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (current != Object.class) {
+                classes.add(current);
+            }
+        }
+        hierarchy.addAll(classes);
+
+        // Breadth-first, so the interfaces closer to the type are preferred
+        var interfaces = new ArrayDeque<Class<?>>();
+        for (var current : classes) {
+            interfaces.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        while (!interfaces.isEmpty()) {
+            var current = interfaces.removeFirst();
+            if (hierarchy.add(current)) {
+                interfaces.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+
+        if (!type.isPrimitive()) {
+            hierarchy.add(Object.class);
+        }
+        return List.copyOf(hierarchy);
+    }
+
+    private record Resolution<V>(Class<?> type, V generator) {
+    }
+
+    private record ConversionKey(Class<?> source, Class<?> target) {
+    }
+
+    @Slf4j
+    private static final class ExtensionLoader {
+        static {
+            // The extensions may be loaded during a test with an active scope, but they apply to all tests
+            RegistryScope.runGlobally(() -> {
+                for (var extension : ServiceLoader.load(ValueSourceExtension.class)) {
+                    log.debug("Registering the types of value-source extension {}", extension.getClass().getName());
+                    extension.registerTypes();
+                }
+            });
+        }
+
+        private ExtensionLoader() {
+        }
+
+        static void ensureLoaded() {
+            // Triggers the static initializer once, concurrent callers wait until it completed
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Compile-time metadata of a parameter record, generated by the
+ * {@link it.aboutbits.springboot.testing.validation.processor.ValidationDescriptorProcessor}.
+ * <p>
+ * If a descriptor named {@code <Record>_ValidationDescriptor} exists next to a record, it is used instead of
+ * reflection to read the properties and to create the mutated copies.
+ * Nested records are named after their enclosing classes, e.g. {@code Outer_Inner_ValidationDescriptor}.
+ * </p>
+ *
+ * @param <T> The described record.
+ */
+@NullMarked
+public interface ValidationDescriptor<T> {
+    String SUFFIX = "_ValidationDescriptor";
+
+    Class<T> type();
+
+    /**
+     * The names of the record components in declaration order.
+     */
+    List<String> properties();
+
+    /**
+     * The erased types of the record components in declaration order.
+     */
+    List<Class<?>> propertyTypes();
+
+    boolean isValidAnnotated(int index);
+
+    boolean isNullableAnnotated(int index);
+
+    @Nullable
+    Object get(T instance, int index);
+
+    /**
+     * Creates a copy of the original with the property at the given index replaced.
+     */
+    T withProperty(T original, int index, @Nullable Object value);
+}
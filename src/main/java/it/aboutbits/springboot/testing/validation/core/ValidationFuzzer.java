@@ -0,0 +1,463 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Checks random combinations of mutations, see {@link MutationProfile#FUZZ}.
+ * <p>
+ * Each input mutates one or more properties of the valid parameter at once. The value of each property is a random
+ * value of one of its rules or a value just outside its {@code @Min}, {@code @Max} or {@code @Size} bounds (see
+ * {@link ConstraintEdges}). Each of these values is invalid on its own, so the input must be rejected and at least one
+ * of the mutated properties must be reported. Not every mutated property has to be reported, e.g. a
+ * {@link GroupSequence} stops at the first group with violations. If the class redefines its default group sequence
+ * (or the validated method uses a group sequence), the violations of other properties are accepted as well, because
+ * an earlier group may stop the validation before the mutated properties are validated.
+ * </p>
+ * <p>
+ * Every {@value #VALID_INPUT_INTERVAL}th input combines values just inside the bounds instead, which must be accepted
+ * without any violation. These inputs are only generated for classes without class-level constraints, which could
+ * reject a combination of valid values (e.g. a range whose lower bound is set to its maximum).
+ * </p>
+ * <p>
+ * Combinations find the cases the single mutations miss, e.g. cross-field validators whose checks cancel each other
+ * out, a validator that fails with an exception or a bound that is off by one.
+ * </p>
+ * <p>
+ * The inputs are checked until the budget ({@link #BUDGET_PER_RULE} per rule by default) is exhausted or
+ * {@value #ITERATIONS_PER_RULE} inputs per rule were checked, whichever comes first. The calling thread checks inputs
+ * together with a pool shared by all tests, which has one thread per core. So tests fuzzing in parallel never start
+ * more threads. The {@link RegistryScope} of the test is active on each thread. The first failing input is then shrunk
+ * to a minimal counterexample: mutations are removed as long as the input still fails, then the remaining values are
+ * replaced by simpler values of the same rules. The candidates of each step are checked in parallel in the same way.
+ * </p>
+ */
+@NullMarked
+final class ValidationFuzzer {
+    static final Duration BUDGET_PER_RULE = Duration.ofMillis(100);
+
+    static final int ITERATIONS_PER_RULE = 1_000;
+
+    private static final int VALID_INPUT_INTERVAL = 4;
+
+    // Not the common pool, which may be used by the code under test. The threads are daemons and idle between tests.
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("validation-fuzzer-", 0).daemon().factory()
+    );
+
+    private final ValidationPlan plan;
+    private final Object parameterUnderTest;
+    @Nullable
+    private final ExecutableCall executableCall;
+    private final Validator validator;
+
+    // The registrations visible to the test, they also apply to the worker threads
+    @Nullable
+    private final RegistryScope scope;
+
+    // Only the rules that produce values can be fuzzed, e.g. not the ones of @Valid or not validated properties
+    private final List<ValidationPlan.PlannedRule> rules;
+    private final List<String> properties;
+
+    // The values of each rule without additional randomness, used to simplify the counterexample
+    private final Map<ValidationPlan.PlannedRule, List<?>> simpleValues = new LinkedHashMap<>();
+
+    private final Map<String, List<ConstraintEdges.Edge>> invalidEdges = new LinkedHashMap<>();
+    private final Map<String, List<ConstraintEdges.Edge>> validEdges = new LinkedHashMap<>();
+    private final List<String> validProperties;
+
+    private final boolean hasGroupSequence;
+
+    private ValidationFuzzer(
+            ValidationPlan plan,
+            Object parameterUnderTest,
+            @Nullable ExecutableCall executableCall,
+            Validator validator
+    ) {
+        this.plan = plan;
+        this.parameterUnderTest = parameterUnderTest;
+        this.executableCall = executableCall;
+        this.validator = validator;
+        this.scope = RegistryScope.current();
+        for (var rule : plan.rules()) {
+            var values = generateSimpleValues(rule);
+            if (!values.isEmpty()) {
+                simpleValues.put(rule, values);
+            }
+        }
+        this.rules = List.copyOf(simpleValues.keySet());
+        this.properties = rules.stream()
+                .map(ValidationPlan.PlannedRule::property)
+                .distinct()
+                .toList();
+
+        // The edges are derived from the constraints of the default group, other groups of a method are not covered
+        if (executableCall == null || executableCall.groups().length == 0) {
+            var bean = validator.getConstraintsForClass(plan.parameterClass());
+            for (var property : properties) {
+                var rule = ruleOf(property);
+                if (!rule.path().isSimple()) {
+                    continue;
+                }
+
+                var edges = ConstraintEdges.of(bean.getConstraintsForProperty(property), rule.propertyType());
+                var invalid = edges.stream().filter(edge -> !edge.valid()).toList();
+                var valid = edges.stream().filter(ConstraintEdges.Edge::valid).toList();
+                if (!invalid.isEmpty()) {
+                    invalidEdges.put(property, invalid);
+                }
+                if (!valid.isEmpty() && !plan.hasClassLevelConstraints()) {
+                    validEdges.put(property, valid);
+                }
+            }
+        }
+        this.validProperties = List.copyOf(validEdges.keySet());
+
+        this.hasGroupSequence = plan.parameterClass().isAnnotationPresent(GroupSequence.class)
+                || executableCall != null && Arrays.stream(executableCall.groups())
+                .anyMatch(group -> group.isAnnotationPresent(GroupSequence.class));
+    }
+
+    static void assertThatFuzzedMutationsAreCompliant(
+            ValidationPlan plan,
+            Object parameterUnderTest,
+            @Nullable ExecutableCall executableCall,
+            MutationSettings mutationSettings,
+            Validator validator
+    ) {
+        var fuzzer = new ValidationFuzzer(plan, parameterUnderTest, executableCall, validator);
+
+        var ruleCount = fuzzer.rules.size();
+        var budget = mutationSettings.budget() != null
+                ? mutationSettings.budget()
+                : BUDGET_PER_RULE.multipliedBy(ruleCount);
+        fuzzer.fuzz(budget, (long) ITERATIONS_PER_RULE * ruleCount);
+    }
+
+    private void fuzz(Duration budget, long maxIterations) {
+        if (properties.isEmpty()) {
+            return;
+        }
+
+        var deadline = System.nanoTime() + budget.toNanos();
+        var nextIteration = new AtomicLong();
+        var stop = new AtomicBoolean();
+        var failures = new ConcurrentLinkedQueue<Failure>();
+
+        var workers = Runtime.getRuntime().availableProcessors();
+        runAll(Collections.<Runnable>nCopies(workers, () -> {
+            while (!stop.get() && System.nanoTime() < deadline) {
+                var iteration = nextIteration.getAndIncrement();
+                if (iteration >= maxIterations) {
+                    break;
+                }
+
+                var input = generate(iteration);
+                if (input.mutations().isEmpty()) {
+                    continue;
+                }
+                verdictOf(input).ifPresent(verdict -> {
+                    failures.add(new Failure(iteration, input, verdict));
+                    stop.set(true);
+                });
+            }
+        }));
+
+        // Several workers may fail at the same time, the earliest iteration is reported to be reproducible
+        var failure = failures.stream().min(Comparator.comparingLong(Failure::iteration)).orElse(null);
+        if (failure == null) {
+            return;
+        }
+
+        var counterexample = shrink(failure.input());
+        var verdict = verdictOf(counterexample).orElse(failure.verdict());
+        throw new AssertionError(
+                "Fuzzing failed for a combination of %s (iteration %d of seed %d, %d inputs checked).%nCounterexample: %s%n%s%nOriginal input: %s".formatted(
+                        failure.input().valid() ? "valid values" : "mutations",
+                        failure.iteration(),
+                        SeededRandom.suiteSeed(),
+                        Math.min(nextIteration.get(), maxIterations),
+                        describe(counterexample),
+                        verdict,
+                        describe(failure.input())
+                )
+        );
+    }
+
+    private Input generate(long iteration) {
+        var seedKey = "fuzz#%s#%d".formatted(plan.parameterClass().getName(), iteration);
+
+        return SeededRandom.withSeed(seedKey, () -> {
+            var random = SeededRandom.current();
+            var valid = !validProperties.isEmpty() && iteration % VALID_INPUT_INTERVAL == VALID_INPUT_INTERVAL - 1;
+            var candidates = valid ? validProperties : properties;
+            var count = 1 + random.nextInt(candidates.size());
+
+            var mutations = new ArrayList<Mutation>();
+            for (var property : shuffled(candidates, random).subList(0, count)) {
+                if (mutations.stream().anyMatch(mutation -> overlaps(mutation.rule().property(), property))) {
+                    continue;
+                }
+
+                var mutation = valid ? validMutation(property, random) : invalidMutation(property, random);
+                if (mutation != null) {
+                    mutations.add(mutation);
+                }
+            }
+            return new Input(mutations, valid);
+        });
+    }
+
+    @Nullable
+    private Mutation invalidMutation(String property, SplittableRandom random) {
+        var candidates = rules.stream().filter(rule -> rule.property().equals(property)).toList();
+        var edges = invalidEdges.getOrDefault(property, List.of());
+
+        // The edges are picked as often as a single rule of the property
+        var choice = random.nextInt(candidates.size() + (edges.isEmpty() ? 0 : 1));
+        if (choice == candidates.size()) {
+            var edge = edges.get(random.nextInt(edges.size()));
+            return new Mutation(candidates.getFirst(), edge.value(), edge.description());
+        }
+
+        var rule = candidates.get(choice);
+        // The value-sources use the random of this thread, so the values differ for each iteration
+        var values = plan.values(rule, parameterUnderTest).toList();
+        if (values.isEmpty()) {
+            return null;
+        }
+        return new Mutation(rule, values.get(random.nextInt(values.size())), sourceOf(rule));
+    }
+
+    private Mutation validMutation(String property, SplittableRandom random) {
+        var edges = validEdges.getOrDefault(property, List.of());
+        var edge = edges.get(random.nextInt(edges.size()));
+        return new Mutation(ruleOf(property), edge.value(), edge.description());
+    }
+
+    private Input shrink(Input input) {
+        var current = input;
+
+        // Remove mutations as long as the input still fails
+        var removed = true;
+        while (removed && current.mutations().size() > 1) {
+            var candidates = new ArrayList<Input>();
+            for (var i = 0; i < current.mutations().size(); i++) {
+                var mutations = new ArrayList<>(current.mutations());
+                mutations.remove(i);
+                candidates.add(new Input(mutations, current.valid()));
+            }
+
+            var smaller = firstFailing(candidates);
+            removed = smaller.isPresent();
+            current = smaller.orElse(current);
+        }
+
+        // The values of valid inputs are already the bounds
+        if (current.valid()) {
+            return current;
+        }
+
+        // Replace the random values by the simple values of the rule, which are usually boundaries
+        for (var i = 0; i < current.mutations().size(); i++) {
+            var index = i;
+            var mutation = current.mutations().get(i);
+            var base = current.mutations();
+
+            var candidates = simpleValues.getOrDefault(mutation.rule(), List.of()).stream()
+                    .filter(value -> value != mutation.value())
+                    .map(value -> {
+                        var mutations = new ArrayList<>(base);
+                        mutations.set(index, new Mutation(mutation.rule(), value, sourceOf(mutation.rule())));
+                        return new Input(mutations, false);
+                    })
+                    .toList();
+
+            current = firstFailing(candidates).orElse(current);
+        }
+        return current;
+    }
+
+    private Optional<Input> firstFailing(List<Input> candidates) {
+        var isFailing = new boolean[candidates.size()];
+        runAll(IntStream.range(0, candidates.size())
+                .<Runnable>mapToObj(index -> () -> isFailing[index] = verdictOf(candidates.get(index)).isPresent())
+                .toList());
+
+        // The first failing candidate in order, so the shrinking is deterministic
+        return IntStream.range(0, candidates.size())
+                .filter(index -> isFailing[index])
+                .mapToObj(candidates::get)
+                .findFirst();
+    }
+
+    /**
+     * Runs the first task on the calling thread and the others on the shared pool, and waits for all of them. The
+     * calling thread takes part, so the test makes progress even if other tests keep the pool busy.
+     */
+    private void runAll(List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        var futures = tasks.subList(1, tasks.size()).stream()
+                .map(task -> EXECUTOR.submit(() -> RegistryScope.runWithin(scope, task)))
+                .toList();
+
+        try {
+            tasks.getFirst().run();
+        } catch (RuntimeException | Error e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        for (var future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(other -> other.cancel(true));
+                throw new IllegalStateException("Fuzzing was interrupted", e);
+            } catch (ExecutionException e) {
+                switch (e.getCause()) {
+                    case RuntimeException cause -> throw cause;
+                    case Error cause -> throw cause;
+                    case null, default -> throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes why the input fails, empty if it is rejected as expected (or accepted, if it combines valid values).
+     */
+    private Optional<String> verdictOf(Input input) {
+        var copy = parameterUnderTest;
+        for (var mutation : input.mutations()) {
+            copy = plan.copy(copy, mutation.rule(), mutation.value());
+        }
+
+        Set<String> violatingProperties;
+        try {
+            violatingProperties = executableCall != null
+                    ? executableCall.getViolatingProperties(validator, copy)
+                    : validator.validate(copy).stream()
+                            .map(violation -> violation.getPropertyPath().toString())
+                            .collect(Collectors.toSet());
+        } catch (RuntimeException e) {
+            return Optional.of("Validation failed with an exception: " + e);
+        }
+
+        var mutatedProperties = input.mutations().stream()
+                .map(mutation -> mutation.rule().property())
+                .toList();
+
+        if (input.valid()) {
+            if (violatingProperties.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of("Expected the values of %s inside their bounds to be accepted, but %s were reported"
+                    .formatted(mutatedProperties, new TreeSet<>(violatingProperties)));
+        }
+
+        if (violatingProperties.isEmpty()) {
+            return Optional.of("Expected the mutations of %s to be rejected, but no violations were reported"
+                    .formatted(mutatedProperties));
+        }
+
+        // Nested properties and list elements of a mutated property count as well, e.g. "address.street"
+        var isReported = violatingProperties.stream().anyMatch(
+                reported -> mutatedProperties.stream().anyMatch(mutated -> overlaps(mutated, reported))
+        );
+        if (isReported || hasGroupSequence) {
+            return Optional.empty();
+        }
+        return Optional.of("Expected at least one of %s to be reported, but only %s were reported"
+                .formatted(mutatedProperties, new TreeSet<>(violatingProperties)));
+    }
+
+    private List<?> generateSimpleValues(ValidationPlan.PlannedRule rule) {
+        var seedKey = "fuzz#%s#%s#%s".formatted(
+                plan.parameterClass().getName(),
+                rule.property(),
+                rule.rule().getValueSource().getName()
+        );
+        return SeededRandom.withSeed(seedKey, () -> plan.values(rule, parameterUnderTest).toList());
+    }
+
+    private ValidationPlan.PlannedRule ruleOf(String property) {
+        return rules.stream()
+                .filter(rule -> rule.property().equals(property))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String sourceOf(ValidationPlan.PlannedRule rule) {
+        return rule.rule().getValueSource().getSimpleName();
+    }
+
+    private static boolean overlaps(String property, String other) {
+        var shorter = property.length() <= other.length() ? property : other;
+        var longer = shorter == property ? other : property;
+        return longer.equals(shorter) || longer.startsWith(shorter + ".") || longer.startsWith(shorter + "[");
+    }
+
+    private static <T> List<T> shuffled(List<T> list, SplittableRandom random) {
+        var result = new ArrayList<>(list);
+        for (var i = result.size() - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            result.set(j, result.set(i, result.get(j)));
+        }
+        return result;
+    }
+
+    private static String describe(Input input) {
+        return input.mutations().stream()
+                .map(mutation -> "%s=[%s] (%s)".formatted(
+                        mutation.rule().property(),
+                        mutation.value(),
+                        mutation.origin()
+                ))
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    /**
+     * @param valid Whether the input combines values inside the bounds, which must be accepted.
+     */
+    private record Input(List<Mutation> mutations, boolean valid) {
+    }
+
+    /**
+     * @param rule   The rule of the mutated property, also if the value is an edge of its constraints.
+     * @param origin The value-source or the edge the value is taken from.
+     */
+    private record Mutation(ValidationPlan.PlannedRule rule, @Nullable Object value, String origin) {
+    }
+
+    private record Failure(long iteration, Input input, String verdict) {
+    }
+}
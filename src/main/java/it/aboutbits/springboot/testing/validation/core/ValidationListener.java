@@ -0,0 +1,20 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Receives the statistics of every rule that was checked by {@code isCompliant()}.
+ * Listeners are registered using {@link BaseValidationAssert#registerValidationListener(ValidationListener)}.
+ * They are called after all mutations of a parameter were checked (also if the check failed) and must be thread-safe,
+ * because validation tests may run concurrently.
+ * <p>
+ * Only the rules whose mutations were actually checked are published. Tests skipped because they passed in a previous
+ * run (see {@code -Dvalidation.cache.directory}) publish nothing, and neither do the cross-field mutations of e.g.
+ * {@code validDateRange}, which are not rules with a value-source.
+ * </p>
+ */
+@NullMarked
+@FunctionalInterface
+public interface ValidationListener {
+    void ruleChecked(RuleStatistics statistics);
+}
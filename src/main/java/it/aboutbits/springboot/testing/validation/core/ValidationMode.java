@@ -0,0 +1,31 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Defines how the RuleValidator checks whether a mutated property raises a violation.
+ */
+@NullMarked
+enum ValidationMode {
+    /**
+     * Calls the configured function with the mutated copy and expects a ConstraintViolationException.
+     */
+    FUNCTION_CALL,
+
+    /**
+     * Validates the arguments of the configured method using the ExecutableValidator, without invoking the method.
+     */
+    EXECUTABLE_VALIDATION,
+
+    /**
+     * Validates the whole mutated copy using bean validation.
+     */
+    BEAN_VALIDATION,
+
+    /**
+     * Validates only the mutated property using {@code Validator.validateValue}, without creating a copy.
+     * A copy is only validated as a whole if the class declares class-level constraints or the property is annotated
+     * with @Valid, because validateValue does not cascade.
+     */
+    PROPERTY_VALIDATION
+}
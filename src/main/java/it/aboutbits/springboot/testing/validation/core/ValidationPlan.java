@@ -0,0 +1,382 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A compiled set of rules for a parameter class.
+ * <p>
+ * Compiling a plan resolves the properties referenced by the rules and runs all checks that only depend on the class
+ * and the rules (e.g. the @Valid and @Nullable annotations). Plans are cached by class and rule set, so validation
+ * tests that check the same type with different fixtures only pay for this once.
+ * </p>
+ * <p>
+ * The mutation values are not part of the plan. Some value-sources produce values relative to the current time
+ * (e.g. past or future dates), so they must be generated for each run.
+ * </p>
+ * <p>
+ * Rules of nested properties (e.g. {@code address.street} or {@code items[0].qty}) are resolved against the
+ * parameter of each run, because the runtime types and the list elements on the path are only known from the
+ * instance.
+ * </p>
+ */
+@NullMarked
+final class ValidationPlan {
+    private static final int MAX_CACHED_PLANS = 256;
+
+    private static final Map<Key, ValidationPlan> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<Key, ValidationPlan>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, ValidationPlan> eldest) {
+                    return size() > MAX_CACHED_PLANS;
+                }
+            }
+    );
+
+    private final ClassMetadata metadata;
+
+    private final PropertyCopier copier;
+
+    private final List<PlannedRule> rules;
+
+    // Class-level constraints (e.g. cross-field validations) can only be evaluated on a whole copy
+    private final boolean hasClassLevelConstraints;
+
+    private ValidationPlan(ClassMetadata metadata, List<PlannedRule> rules, boolean hasClassLevelConstraints) {
+        this.metadata = metadata;
+        this.copier = PropertyCopier.of(metadata.type());
+        this.rules = rules;
+        this.hasClassLevelConstraints = hasClassLevelConstraints;
+    }
+
+    /**
+     * Returns the cached plan for the given class, rules and validator or compiles a new one.
+     * Compiling fails with an AssertionError if the class is not compliant with the rules, in which case nothing is
+     * cached.
+     *
+     * @param validator The validator used to check the mutations, its metadata of the class is part of the plan.
+     */
+    static ValidationPlan of(
+            Class<?> parameterClass,
+            List<Rule> rules,
+            Set<Class<?>> nonBeanTypes,
+            Validator validator
+    ) {
+        var key = new Key(
+                parameterClass,
+                rules.stream().map(RuleKey::of).toList(),
+                Set.copyOf(nonBeanTypes),
+                validator
+        );
+
+        var plan = CACHE.get(key);
+        if (plan == null) {
+            plan = compile(parameterClass, rules, nonBeanTypes, validator);
+            CACHE.put(key, plan);
+        }
+        return plan;
+    }
+
+    Class<?> parameterClass() {
+        return metadata.type();
+    }
+
+    List<PlannedRule> rules() {
+        return rules;
+    }
+
+    boolean hasClassLevelConstraints() {
+        return hasClassLevelConstraints;
+    }
+
+    Stream<?> values(PlannedRule plannedRule, Object parameter) {
+        var rule = plannedRule.rule();
+        var source = ValueSourceRegistry.get(rule.getValueSource());
+
+        var propertyType = plannedRule.path().isSimple()
+                ? plannedRule.propertyType()
+                : plannedRule.path().leafType(parameter);
+
+        return source.values(propertyType, rule.getArgs());
+    }
+
+    <P> P copy(P original, PlannedRule plannedRule, @Nullable Object alteredValue) {
+        if (plannedRule.path().isSimple()) {
+            return copier.withProperty(original, plannedRule.propertyIndex(), alteredValue);
+        }
+        return plannedRule.path().withValue(original, alteredValue);
+    }
+
+    @Nullable
+    Object propertyValue(Object parameter, String property) {
+        return copier.get(parameter, metadata.indexOfOrFail(property));
+    }
+
+    <P> P copyProperty(P original, String property, @Nullable Object alteredValue) {
+        return copier.withProperty(original, metadata.indexOfOrFail(property), alteredValue);
+    }
+
+    /**
+     * Checks the @Valid and @Nullable rules of nested properties on the classes that declare them.
+     */
+    void assertThatNestedAnnotationsArePresent(Object parameter) {
+        for (var plannedRule : rules) {
+            var path = plannedRule.path();
+            var rule = plannedRule.rule();
+            if (path.isSimple() || !(rule.isRequireValid() || rule.isRequireNullable())) {
+                continue;
+            }
+
+            var owner = ClassMetadata.of(path.owner(parameter).getClass());
+            var property = path.segments().getLast().name();
+
+            if (rule.isRequireValid()) {
+                assertThat(owner.isValidAnnotated(property))
+                        .withFailMessage("Missing @Valid annotation for property: " + path)
+                        .isTrue();
+            }
+            if (rule.isRequireNullable()) {
+                assertThat(owner.isNullableAnnotated(property))
+                        .withFailMessage("Missing @Nullable annotation for property: " + path)
+                        .isTrue();
+            }
+        }
+    }
+
+    /**
+     * A rule of a nested property only covers the property it is nested in if all properties of the nested objects on
+     * its path have rules as well, e.g. a rule for {@code address.street} requires rules for all other properties of
+     * the address. Properties without constraints can be excluded using {@code notValidated("address.city")}.
+     */
+    void assertThatNestedPropertiesHaveRules(Object parameter) {
+        // The nested objects reached by the rules, by their path
+        var nestedObjects = new LinkedHashMap<String, NestedObject>();
+        for (var plannedRule : rules) {
+            var path = plannedRule.path();
+            for (var depth = 1; depth < path.segments().size(); depth++) {
+                var prefix = path.prefix(depth);
+                var nestedObject = nestedObjects.get(prefix);
+                if (nestedObject == null) {
+                    nestedObject = new NestedObject(path.valueAt(parameter, depth), new HashSet<>());
+                    nestedObjects.put(prefix, nestedObject);
+                }
+                nestedObject.propertiesWithRules().add(path.segments().get(depth).name());
+            }
+        }
+
+        var missingProperties = new ArrayList<String>();
+        nestedObjects.forEach((prefix, nestedObject) -> {
+            for (var property : ClassMetadata.of(nestedObject.value().getClass()).declaredProperties()) {
+                if (!nestedObject.propertiesWithRules().contains(property)) {
+                    missingProperties.add(prefix + "." + property);
+                }
+            }
+        });
+
+        assertThat(missingProperties)
+                .withFailMessage("Not all properties have validation rules: [" + String.join(
+                        ", ",
+                        missingProperties
+                ) + "]")
+                .isEmpty();
+    }
+
+    private static ValidationPlan compile(
+            Class<?> parameterClass,
+            List<Rule> rules,
+            Set<Class<?>> nonBeanTypes,
+            Validator validator
+    ) {
+        var metadata = ClassMetadata.of(parameterClass);
+
+        var propertiesWithRules = getPropertyNamesThatHaveRules(rules);
+
+        assertThatValidAnnotationsArePresent(rules, propertiesWithRules, metadata);
+
+        assertThatNullableAnnotationsArePresent(rules, propertiesWithRules, metadata);
+
+        assertThatAllPropertiesHaveRules(metadata, propertiesWithRules);
+
+        checkIfNestedValidationIsEnabledForNestedRecords(metadata, nonBeanTypes);
+
+        var bean = validator.getConstraintsForClass(parameterClass);
+
+        var plannedRules = rules.stream()
+                .map(rule -> {
+                    var path = PropertyPath.parse(rule.getProperty());
+                    var propertyIndex = metadata.indexOfOrFail(path.rootProperty());
+                    return new PlannedRule(
+                            rule,
+                            path,
+                            propertyIndex,
+                            metadata.propertyType(path.rootProperty()),
+                            isCascaded(bean, path.rootProperty())
+                    );
+                })
+                .toList();
+
+        var hasClassLevelConstraints = !bean.getConstraintDescriptors().isEmpty();
+
+        return new ValidationPlan(metadata, plannedRules, hasClassLevelConstraints);
+    }
+
+    // Includes cascaded container elements, e.g. List<@Valid Item>
+    private static boolean isCascaded(BeanDescriptor bean, String property) {
+        var descriptor = bean.getConstraintsForProperty(property);
+        return descriptor != null
+                && (descriptor.isCascaded() || hasCascadedElements(descriptor.getConstrainedContainerElementTypes()));
+    }
+
+    private static boolean hasCascadedElements(Set<ContainerElementTypeDescriptor> elements) {
+        return elements.stream().anyMatch(
+                element -> element.isCascaded() || hasCascadedElements(element.getConstrainedContainerElementTypes())
+        );
+    }
+
+    private static HashSet<String> getPropertyNamesThatHaveRules(List<Rule> rules) {
+        // Create a set to keep track of properties that have validation rules
+        var propertiesWithRules = new HashSet<String>();
+        for (var rule : rules) {
+            // A rule of a nested property also covers the property it is nested in, as long as all properties of the
+            // nested object have rules, see assertThatNestedPropertiesHaveRules
+            propertiesWithRules.add(PropertyPath.parse(rule.getProperty()).rootProperty());
+        }
+        return propertiesWithRules;
+    }
+
+    private static void assertThatValidAnnotationsArePresent(
+            List<Rule> rules,
+            HashSet<String> propertiesWithRules,
+            ClassMetadata metadata
+    ) {
+        var propertiesWithValid = rules.stream()
+                .filter(Rule::isRequireValid)
+                .map(Rule::getProperty)
+                .filter(property -> PropertyPath.parse(property).isSimple())
+                .collect(Collectors.toSet());
+
+        for (var property : propertiesWithValid) {
+            propertiesWithRules.add(property);
+
+            assertThat(metadata.isValidAnnotated(property))
+                    .withFailMessage("Missing @Valid annotation for property: " + property)
+                    .isTrue();
+        }
+    }
+
+    private static void assertThatNullableAnnotationsArePresent(
+            List<Rule> rules,
+            HashSet<String> propertiesWithRules,
+            ClassMetadata metadata
+    ) {
+        var propertiesWithNullable = rules.stream()
+                .filter(Rule::isRequireNullable)
+                .map(Rule::getProperty)
+                .filter(property -> PropertyPath.parse(property).isSimple())
+                .collect(Collectors.toSet());
+
+        for (var property : propertiesWithNullable) {
+            propertiesWithRules.add(property);
+
+            assertThat(metadata.isNullableAnnotated(property))
+                    .withFailMessage("Missing @Nullable annotation for property: " + property + ". Note: This does not work with `org.jetbrains.annotations.Nullable` because of their retention policy. Use `org.springframework.lang.Nullable` or `jakarta.annotation.Nullable` instead.")
+                    .isTrue();
+        }
+    }
+
+    private static void assertThatAllPropertiesHaveRules(
+            ClassMetadata metadata,
+            HashSet<String> propertiesWithRules
+    ) {
+        // Check if all properties have rules (you can also handle this differently based on your needs)
+        var allProperties = metadata.declaredProperties();
+
+        var missingProperties = new HashSet<>(allProperties);
+        missingProperties.removeAll(propertiesWithRules);
+
+        assertThat(missingProperties)
+                .withFailMessage("Not all properties have validation rules: " + "[" + String.join(
+                        ", ",
+                        missingProperties
+                ) + "]")
+                .isEmpty();
+    }
+
+    private static void checkIfNestedValidationIsEnabledForNestedRecords(
+            ClassMetadata metadata,
+            Set<Class<?>> nonBeanTypes
+    ) {
+        for (var property : metadata.declaredRecordProperties()) {
+            var propertyType = metadata.propertyType(property);
+            var isBeanType = nonBeanTypes.stream().noneMatch(type -> type.isAssignableFrom(propertyType));
+
+            if (isBeanType) {
+                assertThat(metadata.isValidAnnotated(property)).withFailMessage("Missing @Valid annotation for property: " + property + ". Note: This is implicitly assumed for nested records. You can configure `BaseValidationAssert.registerNonBeanType` to add exceptions.")
+                        .isTrue();
+            }
+        }
+    }
+
+    /**
+     * @param propertyIndex The index of the property of the parameter the path starts with.
+     * @param propertyType  The type of the property of the parameter the path starts with.
+     * @param cascaded      Whether the property the path starts with is validated with @Valid.
+     */
+    record PlannedRule(
+            Rule rule,
+            PropertyPath path,
+            int propertyIndex,
+            Class<?> propertyType,
+            boolean cascaded
+    ) {
+        String property() {
+            return rule.getProperty();
+        }
+    }
+
+    private record NestedObject(Object value, Set<String> propertiesWithRules) {
+    }
+
+    // The validator is compared by identity, see ValidatorProvider
+    private record Key(
+            Class<?> parameterClass,
+            List<RuleKey> rules,
+            Set<Class<?>> nonBeanTypes,
+            Validator validator
+    ) {
+    }
+
+    private record RuleKey(
+            String property,
+            Class<? extends ValueSource> valueSource,
+            List<Object> args,
+            boolean requireValid,
+            boolean requireNullable
+    ) {
+        static RuleKey of(Rule rule) {
+            return new RuleKey(
+                    rule.getProperty(),
+                    rule.getValueSource(),
+                    Arrays.asList(rule.getArgs().clone()),
+                    rule.isRequireValid(),
+                    rule.isRequireNullable()
+            );
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the {@link MutationProfile} of all validation tests in the annotated test class, including its nested classes.
+ * The system property {@value MutationProfile#PROFILE_PROPERTY} takes precedence, see {@link MutationProfile}.
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface ValidationProfile {
+    MutationProfile value();
+
+    /**
+     * The time budget for the additional samples of {@link MutationProfile#EXHAUSTIVE} or the fuzzing of
+     * {@link MutationProfile#FUZZ} per {@code isCompliant()}.
+     * Zero means no limit, fuzzing then uses a default budget.
+     */
+    long budgetMillis() default 0;
+}
@@ -0,0 +1,259 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Constraint;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregates the rule statistics of the whole test suite and writes them as a JSON report when the JVM shuts down.
+ * It is enabled using the system property {@value #FILE_PROPERTY}, e.g.
+ * {@code -Dvalidation.report.file=target/validation-report.json}.
+ * <p>
+ * For every parameter class, the report lists each property with its constraint annotations and the rules that were
+ * checked, i.e. the value-source, its arguments, the number of runs and mutations and the time spent. Properties whose
+ * rules never produced a mutation (e.g. not validated properties) are listed as not exercised. This allows tracking
+ * the cost of the validation tests over time and finding classes that are tested more often than necessary.
+ * </p>
+ * <p>
+ * Only the classes checked by at least one validation test appear in the report, it is not a coverage report of all
+ * constrained classes. Tests skipped by the {@link IncrementalValidationCache} and the cross-field mutations (e.g.
+ * {@code validDateRange}) are not reported, see {@link ValidationListener}.
+ * </p>
+ */
+@Slf4j
+@NullMarked
+final class ValidationReport implements ValidationListener {
+    static final String FILE_PROPERTY = "validation.report.file";
+
+    private final Path file;
+
+    private final RuleStatisticsAggregator aggregator = new RuleStatisticsAggregator();
+
+    ValidationReport(Path file) {
+        this.file = file;
+    }
+
+    static void registerIfEnabled() {
+        var file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return;
+        }
+
+        var report = new ValidationReport(Path.of(file.trim()));
+        BaseValidationAssert.registerValidationListener(report);
+        Runtime.getRuntime().addShutdownHook(new Thread(report::write, "validation-report"));
+    }
+
+    @Override
+    public void ruleChecked(RuleStatistics statistics) {
+        aggregator.add(statistics);
+    }
+
+    void write() {
+        if (aggregator.isEmpty()) {
+            return;
+        }
+
+        try {
+            var parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (var writer = Files.newBufferedWriter(file)) {
+                JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(writer, toReport());
+            }
+            log.info("Validation report written to {}", file);
+        } catch (IOException | JacksonException e) {
+            log.warn("Could not write the validation report to {}", file, e);
+        }
+    }
+
+    private Report toReport() {
+        var rulesByClass = aggregator.snapshot().stream()
+                .collect(Collectors.groupingBy(rule -> rule.key().parameterClass()));
+
+        var classes = rulesByClass.entrySet().stream()
+                .map(entry -> toClassReport(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(ClassReport::totalMicros).reversed())
+                .toList();
+
+        return new Report(
+                Instant.now().toString(),
+                SeededRandom.suiteSeed(),
+                classes.stream().mapToLong(ClassReport::mutations).sum(),
+                classes.stream().mapToLong(ClassReport::totalMicros).sum(),
+                classes
+        );
+    }
+
+    private static ClassReport toClassReport(
+            Class<?> parameterClass,
+            List<RuleStatisticsAggregator.RuleTotals> rules
+    ) {
+        // Rules of nested properties (e.g. "address.street") are listed under the property they are nested in
+        var rulesByProperty = new LinkedHashMap<String, List<RuleReport>>();
+        for (var property : propertiesOf(parameterClass)) {
+            rulesByProperty.put(property, new ArrayList<>());
+        }
+        for (var rule : rules) {
+            var key = rule.key();
+            rulesByProperty.computeIfAbsent(PropertyPath.parse(key.property()).rootProperty(), _ -> new ArrayList<>())
+                    .add(new RuleReport(
+                            key.property(),
+                            key.valueSource().getSimpleName(),
+                            key.args(),
+                            rule.runs(),
+                            rule.values(),
+                            toMicros(rule.generationNanos()),
+                            toMicros(rule.copyNanos()),
+                            toMicros(rule.validationNanos())
+                    ));
+        }
+
+        var properties = rulesByProperty.entrySet().stream()
+                .map(entry -> {
+                    var propertyRules = entry.getValue();
+                    propertyRules.sort(Comparator.comparing(RuleReport::path).thenComparing(RuleReport::valueSource));
+                    return new PropertyReport(
+                            entry.getKey(),
+                            constraintsOf(parameterClass, entry.getKey()),
+                            propertyRules.stream().anyMatch(rule -> rule.mutations() > 0),
+                            propertyRules.stream().mapToLong(RuleReport::mutations).sum(),
+                            propertyRules.stream().mapToLong(RuleReport::totalMicros).sum(),
+                            propertyRules
+                    );
+                })
+                .toList();
+
+        return new ClassReport(
+                parameterClass.getName(),
+                rules.stream().mapToLong(RuleStatisticsAggregator.RuleTotals::runs).max().orElse(0),
+                properties.stream().mapToLong(PropertyReport::mutations).sum(),
+                properties.stream().mapToLong(PropertyReport::totalMicros).sum(),
+                properties.stream().filter(property -> !property.exercised()).map(PropertyReport::property).toList(),
+                properties
+        );
+    }
+
+    private static List<String> propertiesOf(Class<?> parameterClass) {
+        var metadata = ClassMetadata.of(parameterClass);
+
+        var properties = new ArrayList<String>();
+        for (var i = 0; i < metadata.propertyCount(); i++) {
+            var property = metadata.propertyName(i);
+            if (metadata.indexOfOrFail(property) == i) {
+                properties.add(property);
+            }
+        }
+        return properties;
+    }
+
+    private static List<String> constraintsOf(Class<?> parameterClass, String property) {
+        var field = findField(parameterClass, property);
+        if (field == null) {
+            return List.of();
+        }
+
+        var constraints = new ArrayList<String>();
+        for (var annotation : field.getAnnotations()) {
+            addConstraints(annotation, constraints);
+        }
+        return constraints;
+    }
+
+    private static void addConstraints(Annotation annotation, List<String> constraints) {
+        var annotationType = annotation.annotationType();
+        if (annotationType.isAnnotationPresent(Constraint.class)) {
+            constraints.add(annotation.toString());
+            return;
+        }
+
+        // Repeated constraints are wrapped in a container, e.g. @Size.List
+        try {
+            var value = annotationType.getMethod("value").invoke(annotation);
+            if (value instanceof Annotation[] annotations) {
+                Arrays.stream(annotations).forEach(repeated -> addConstraints(repeated, constraints));
+            }
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException _) {
+            // Not a container of constraints
+        }
+    }
+
+    @Nullable
+    private static Field findField(Class<?> type, String property) {
+        for (@Nullable Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(property);
+            } catch (NoSuchFieldException _) {
+                // Declared by a superclass
+            }
+        }
+        return null;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private record Report(
+            String generatedAt,
+            long seed,
+            long mutations,
+            long totalMicros,
+            List<ClassReport> classes
+    ) {
+    }
+
+    private record ClassReport(
+            String parameterClass,
+            long runs,
+            long mutations,
+            long totalMicros,
+            List<String> notExercisedProperties,
+            List<PropertyReport> properties
+    ) {
+    }
+
+    private record PropertyReport(
+            String property,
+            List<String> constraints,
+            boolean exercised,
+            long mutations,
+            long totalMicros,
+            List<RuleReport> rules
+    ) {
+    }
+
+    private record RuleReport(
+            String path,
+            String valueSource,
+            List<String> args,
+            long runs,
+            long mutations,
+            long generationMicros,
+            long copyMicros,
+            long validationMicros
+    ) {
+        long totalMicros() {
+            return generationMicros + copyMicros + validationMicros;
+        }
+    }
+}
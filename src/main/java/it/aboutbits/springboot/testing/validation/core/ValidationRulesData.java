@@ -8,4 +8,11 @@ public interface ValidationRulesData {
     void addRule(Rule rule);
 
     void addValidationFunction(CustomValidationFunction function);
+
+    /**
+     * Adds a mutation that must be rejected by a class-level constraint. Implementations that do not check cross-field
+     * mutations ignore it, the cross-field rules then only check the presence of their annotation.
+     */
+    default void addCrossFieldMutation(CrossFieldMutation mutation) {
+    }
 }
@@ -0,0 +1,165 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable set of rules for a parameter class, created using
+ * {@link BaseValidationAssert#spec(Class, java.util.function.Consumer)}.
+ * <p>
+ * Unlike the assert itself, a spec can be reused for any number of fixtures and shared between threads. The rules are
+ * compiled into a plan once, when the spec is created, so each fixture only pays for its mutations.
+ * </p>
+ * <p>
+ * The fixtures are checked using bean validation, or only the mutated property with {@link #usingPropertyValidation()}.
+ * The validation mode of the assert is not used, calling a function or {@code validatingCall} is not supported.
+ * </p>
+ *
+ * @param <P> The type of the parameter under test.
+ */
+@NullMarked
+public final class ValidationSpec<P> {
+    private final Class<P> parameterClass;
+    private final ValidationMode validationMode;
+    private final MutationSettings mutationSettings;
+    private final List<Rule> rules;
+    private final List<CustomValidationFunction> functions;
+    private final List<CrossFieldMutation> crossFieldMutations;
+    private final Set<Class<?>> nonBeanTypes;
+    private final Validator validator;
+    private final Validator mutationValidator;
+    private final List<ValidationListener> listeners;
+
+    // The registrations visible when the spec was created, they also apply to the worker threads
+    @Nullable
+    private final RegistryScope scope;
+
+    private final ValidationPlan plan;
+
+    @SuppressWarnings("java:S107")
+    ValidationSpec(
+            Class<P> parameterClass,
+            ValidationMode validationMode,
+            MutationSettings mutationSettings,
+            List<Rule> rules,
+            List<CustomValidationFunction> functions,
+            List<CrossFieldMutation> crossFieldMutations,
+            Set<Class<?>> nonBeanTypes,
+            Validator validator,
+            Validator mutationValidator,
+            List<ValidationListener> listeners,
+            @Nullable RegistryScope scope
+    ) {
+        this.parameterClass = parameterClass;
+        this.validationMode = validationMode;
+        this.mutationSettings = mutationSettings;
+        this.rules = List.copyOf(rules);
+        this.functions = List.copyOf(functions);
+        this.crossFieldMutations = List.copyOf(crossFieldMutations);
+        this.nonBeanTypes = Set.copyOf(nonBeanTypes);
+        this.validator = validator;
+        this.mutationValidator = mutationValidator;
+        this.listeners = List.copyOf(listeners);
+        this.scope = scope;
+        this.plan = ValidationPlan.of(parameterClass, this.rules, this.nonBeanTypes, mutationValidator);
+    }
+
+    /**
+     * A copy of this spec that validates only the mutated property instead of the whole copy of each fixture,
+     * see {@link BaseValidationAssert.CallBuilder#usingPropertyValidation()}.
+     */
+    public ValidationSpec<P> usingPropertyValidation() {
+        return new ValidationSpec<>(
+                parameterClass,
+                ValidationMode.PROPERTY_VALIDATION,
+                mutationSettings,
+                rules,
+                functions,
+                crossFieldMutations,
+                nonBeanTypes,
+                validator,
+                mutationValidator,
+                listeners,
+                scope
+        );
+    }
+
+    /**
+     * Checks that the rules are compliant for a single valid fixture.
+     */
+    public void assertCompliant(P fixture) {
+        RegistryScope.runWithin(scope, () -> assertFixture(fixture));
+    }
+
+    /**
+     * Checks that the rules are compliant for each of the given valid fixtures. The fixtures are checked in parallel,
+     * and all failures are reported together with the index and the fixture that failed.
+     */
+    public void assertCompliant(Stream<? extends P> fixtures) {
+        var fixtureList = fixtures.toList();
+
+        var failures = IntStream.range(0, fixtureList.size())
+                .parallel()
+                .mapToObj(index -> {
+                    var fixture = fixtureList.get(index);
+                    try {
+                        assertCompliant(fixture);
+                        return Optional.<FixtureFailure>empty();
+                    } catch (AssertionError e) {
+                        return Optional.of(new FixtureFailure(index, fixture, e));
+                    }
+                })
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (!failures.isEmpty()) {
+            var error = new AssertionError(
+                    "%d of %d fixtures failed:%n%s".formatted(
+                            failures.size(),
+                            fixtureList.size(),
+                            failures.stream()
+                                    .map(failure -> "Fixture #%d %s: %s".formatted(
+                                            failure.index(),
+                                            failure.fixture(),
+                                            failure.error().getMessage()
+                                    ))
+                                    .collect(Collectors.joining(System.lineSeparator()))
+                    )
+            );
+            failures.forEach(failure -> error.addSuppressed(failure.error()));
+            throw error;
+        }
+    }
+
+    private void assertFixture(P fixture) {
+        new RuleValidator<P>().assertValidation(
+                new RuleValidator.AssertionParameter<>(
+                        fixture,
+                        null,
+                        null,
+                        validationMode,
+                        false,
+                        mutationSettings,
+                        rules,
+                        functions,
+                        crossFieldMutations,
+                        nonBeanTypes,
+                        validator,
+                        mutationValidator,
+                        listeners
+                ),
+                plan
+        );
+    }
+
+    private record FixtureFailure(int index, Object fixture, AssertionError error) {
+    }
+}
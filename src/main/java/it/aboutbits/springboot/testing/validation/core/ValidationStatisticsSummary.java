@@ -0,0 +1,78 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Duration;
+
+/**
+ * Aggregates the rule statistics of the whole test suite and logs the most expensive rules when the JVM shuts down.
+ * It is enabled using the system property {@value #ENABLED_PROPERTY}, e.g. {@code -Dvalidation.statistics.summary=true}.
+ * Tests skipped by the {@link IncrementalValidationCache} and the cross-field mutations are not included, see
+ * {@link ValidationListener}.
+ */
+@Slf4j
+@NullMarked
+final class ValidationStatisticsSummary implements ValidationListener {
+    static final String ENABLED_PROPERTY = "validation.statistics.summary";
+
+    private static final int MAX_REPORTED_RULES = 20;
+
+    private final RuleStatisticsAggregator aggregator = new RuleStatisticsAggregator();
+
+    private ValidationStatisticsSummary() {
+    }
+
+    static void registerIfEnabled() {
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return;
+        }
+
+        var summary = new ValidationStatisticsSummary();
+        BaseValidationAssert.registerValidationListener(summary);
+        Runtime.getRuntime().addShutdownHook(new Thread(summary::log, "validation-statistics-summary"));
+    }
+
+    @Override
+    public void ruleChecked(RuleStatistics statistics) {
+        aggregator.add(statistics);
+    }
+
+    private void log() {
+        if (aggregator.isEmpty()) {
+            return;
+        }
+
+        var rules = aggregator.snapshot();
+        var totalNanos = rules.stream().mapToLong(RuleStatisticsAggregator.RuleTotals::totalNanos).sum();
+
+        var summary = new StringBuilder();
+        summary.append("Validation statistics: %d rules, %d ms in total. Most expensive rules:".formatted(
+                rules.size(),
+                Duration.ofNanos(totalNanos).toMillis()
+        ));
+
+        rules.stream()
+                .limit(MAX_REPORTED_RULES)
+                .forEach(rule -> {
+                    var key = rule.key();
+                    summary.append(System.lineSeparator()).append(
+                            "%8d ms %s.%s (%s %s): %d runs, %d values, generation %d ms, copy %d ms, validation %d ms"
+                                    .formatted(
+                                            Duration.ofNanos(rule.totalNanos()).toMillis(),
+                                            key.parameterClass().getName(),
+                                            key.property(),
+                                            key.valueSource().getSimpleName(),
+                                            key.args(),
+                                            rule.runs(),
+                                            rule.values(),
+                                            Duration.ofNanos(rule.generationNanos()).toMillis(),
+                                            Duration.ofNanos(rule.copyNanos()).toMillis(),
+                                            Duration.ofNanos(rule.validationNanos()).toMillis()
+                                    )
+                    );
+                });
+
+        log.info(summary.toString());
+    }
+}
@@ -0,0 +1,29 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Provides the {@link Validator} used by the validation tester.
+ * <p>
+ * The default provider uses the validator of the Spring application context (if the BeanAccessor is enabled), so that
+ * the same configuration (e.g. a custom ConstraintValidatorFactory) is used as in the application.
+ * Otherwise, a default validator factory is bootstrapped lazily once.
+ * </p>
+ */
+@NullMarked
+@FunctionalInterface
+public interface ValidatorProvider {
+    Validator getValidator();
+
+    /**
+     * The validator used to check the mutated parameters.
+     * Only the property paths of the violations are evaluated, so this validator does not need to interpolate messages.
+     * Messages are still interpolated by {@link #getValidator()} when reporting an invalid parameter.
+     * The compiled validation plans are cached per mutation validator, so it should return the same instance as long as
+     * its configuration does not change.
+     */
+    default Validator getMutationValidator() {
+        return getValidator();
+    }
+}
@@ -0,0 +1,19 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Registers additional types at the value-sources, e.g. the types of a library shared by multiple projects.
+ * <p>
+ * Implementations are discovered using {@link java.util.ServiceLoader} (listed in
+ * {@code META-INF/services/it.aboutbits.springboot.testing.validation.core.ValueSourceExtension}) and called once,
+ * before the first value is resolved. All of their registrations are global.
+ * </p>
+ */
+@NullMarked
+public interface ValueSourceExtension {
+    /**
+     * Register the types using the {@code registerType} methods of the value-sources.
+     */
+    void registerTypes();
+}
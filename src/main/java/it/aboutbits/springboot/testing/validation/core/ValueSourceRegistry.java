@@ -0,0 +1,81 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Provides the value-source instances used by the rules.
+ * <p>
+ * By default, a value-source is assumed to be stateless. It is created once using its no-args constructor and then
+ * shared between all rules. Stateful value-sources can be registered with a supplier, which is called for each rule.
+ * Pre-built instances (e.g. value-sources that take constructor arguments or keep precomputed values) can be
+ * registered directly.
+ * </p>
+ * <p>
+ * Registrations made while a {@link RegistryScope} is active only apply to that scope, see
+ * {@link ScopedRegistryExtension}.
+ * </p>
+ */
+@NullMarked
+public final class ValueSourceRegistry {
+    private static final ScopedRegistry<Class<? extends ValueSource>, Supplier<? extends ValueSource>> SOURCES = new ScopedRegistry<>();
+
+    // The instances of the value-sources without a registration, created on first use
+    private static final ConcurrentMap<Class<? extends ValueSource>, ValueSource> SINGLETONS = new ConcurrentHashMap<>();
+
+    private ValueSourceRegistry() {
+    }
+
+    /**
+     * Register a pre-built instance that is shared between all rules using its class.
+     * If called within a {@link RegistryScope}, it only applies to that scope.
+     *
+     * @param instance The value-source instance.
+     */
+    @SuppressWarnings("unused")
+    public static void registerInstance(ValueSource instance) {
+        SOURCES.register(instance.getClass(), () -> instance);
+    }
+
+    /**
+     * Register a supplier that creates a new instance of the value-source for each rule.
+     * If called within a {@link RegistryScope}, it only applies to that scope.
+     *
+     * @param type     The class of the value-source as referenced by the rules.
+     * @param supplier The supplier creating the instances.
+     */
+    @SuppressWarnings("unused")
+    public static <S extends ValueSource> void registerSupplier(Class<S> type, Supplier<? extends S> supplier) {
+        SOURCES.register(type, supplier);
+    }
+
+    static ValueSource get(Class<? extends ValueSource> type) {
+        var supplier = SOURCES.get(type);
+        if (supplier != null) {
+            return supplier.get();
+        }
+        return SINGLETONS.computeIfAbsent(type, ValueSourceRegistry::createSingleton);
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static ValueSource createSingleton(Class<? extends ValueSource> type) {
+        try {
+            var constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return constructor.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new RuleValidationException(
+                    "Value source %s has no no-args constructor. Register an instance or a supplier using the ValueSourceRegistry.".formatted(
+                            type.getName()
+                    ),
+                    e
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new RuleValidationException("Error creating value source: " + type.getName(), e);
+        }
+    }
+}
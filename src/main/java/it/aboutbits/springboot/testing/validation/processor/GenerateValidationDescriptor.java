@@ -0,0 +1,20 @@
+package it.aboutbits.springboot.testing.validation.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link it.aboutbits.springboot.testing.validation.core.ValidationDescriptor} for the given records.
+ * <p>
+ * Request records usually live in the production code, which must not depend on this library. Therefore, the
+ * annotation is put on a test class and lists the records to generate descriptors for. If it is put on a record
+ * without any value, a descriptor is generated for the record itself.
+ * </p>
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateValidationDescriptor {
+    Class<? extends Record>[] value() default {};
+}
@@ -0,0 +1,279 @@
+package it.aboutbits.springboot.testing.validation.processor;
+
+import it.aboutbits.springboot.testing.validation.core.ValidationDescriptor;
+import org.jspecify.annotations.NullMarked;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Generated;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@link ValidationDescriptor} for every record listed in {@link GenerateValidationDescriptor}.
+ * <p>
+ * The descriptor is generated into the package of the record, so it can also access package-private records. It reads
+ * the components through the accessors and creates the copies through the canonical constructor, which means that
+ * no reflection is required at runtime.
+ * </p>
+ * <p>
+ * The processor is registered as a service, so it is discovered on the classpath if implicit annotation processing is
+ * enabled. Otherwise, it has to be added to the annotation processor path of the test compilation, see the readme.
+ * </p>
+ */
+@NullMarked
+@SupportedAnnotationTypes("it.aboutbits.springboot.testing.validation.processor.GenerateValidationDescriptor")
+public class ValidationDescriptorProcessor extends AbstractProcessor {
+    private static final String ANNOTATION = GenerateValidationDescriptor.class.getName();
+
+    private static final Set<String> VALID_ANNOTATIONS = Set.of("jakarta.validation.Valid");
+
+    private static final Set<String> NULLABLE_ANNOTATIONS = Set.of(
+            "org.jspecify.annotations.Nullable",
+            "jakarta.annotation.Nullable",
+            "org.springframework.lang.Nullable"
+    );
+
+    // Every record is only generated once, even if it is listed by multiple test classes
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (var annotation : annotations) {
+            for (var element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (var recordType : getRecordsToDescribe(element)) {
+                    if (generated.add(recordType.getQualifiedName().toString())) {
+                        generate(recordType);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<TypeElement> getRecordsToDescribe(Element element) {
+        var records = new ArrayList<TypeElement>();
+
+        for (var mirror : element.getAnnotationMirrors()) {
+            if (!isAnnotation(mirror, ANNOTATION)) {
+                continue;
+            }
+
+            var values = getValues(mirror);
+            if (values.isEmpty() && element.getKind() == ElementKind.RECORD) {
+                records.add((TypeElement) element);
+            }
+
+            for (var value : values) {
+                var type = processingEnv.getTypeUtils().asElement((TypeMirror) value.getValue());
+                if (type instanceof TypeElement typeElement && type.getKind() == ElementKind.RECORD) {
+                    records.add(typeElement);
+                }
+            }
+        }
+
+        if (records.isEmpty()) {
+            error(element, "@GenerateValidationDescriptor must list at least one record or be put on a record.");
+        }
+
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> getValues(AnnotationMirror mirror) {
+        for (var entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return (List<? extends AnnotationValue>) entry.getValue().getValue();
+            }
+        }
+        return List.of();
+    }
+
+    private void generate(TypeElement recordType) {
+        for (Element current = recordType; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                error(recordType, "Cannot generate a validation descriptor for a private record.");
+                return;
+            }
+        }
+
+        var elements = processingEnv.getElementUtils();
+        var packageName = elements.getPackageOf(recordType).getQualifiedName().toString();
+        var descriptorName = getDescriptorName(recordType);
+        var recordName = sourceNameOf(recordType.asType());
+
+        var components = recordType.getRecordComponents();
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@").append(Generated.class.getName())
+                .append("(\"").append(ValidationDescriptorProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(descriptorName)
+                .append(" implements ").append(ValidationDescriptor.class.getName())
+                .append("<").append(recordName).append("> {\n");
+
+        source.append("    private static final java.util.List<String> PROPERTIES = java.util.List.of(")
+                .append(join(components.stream().map(c -> "\"" + c.getSimpleName() + "\"")))
+                .append(");\n\n");
+        source.append("    private static final java.util.List<Class<?>> PROPERTY_TYPES = java.util.List.of(")
+                .append(join(components.stream().map(c -> sourceNameOf(c.asType()) + ".class")))
+                .append(");\n\n");
+        source.append("    private static final boolean[] VALID = {")
+                .append(join(components.stream().map(c -> String.valueOf(isAnnotated(c, VALID_ANNOTATIONS)))))
+                .append("};\n\n");
+        source.append("    private static final boolean[] NULLABLE = {")
+                .append(join(components.stream().map(c -> String.valueOf(isAnnotated(c, NULLABLE_ANNOTATIONS)))))
+                .append("};\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Class<").append(recordName).append("> type() {\n")
+                .append("        return ").append(recordName).append(".class;\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public java.util.List<String> properties() {\n")
+                .append("        return PROPERTIES;\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public java.util.List<Class<?>> propertyTypes() {\n")
+                .append("        return PROPERTY_TYPES;\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public boolean isValidAnnotated(int index) {\n")
+                .append("        return VALID[index];\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public boolean isNullableAnnotated(int index) {\n")
+                .append("        return NULLABLE[index];\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public @org.jspecify.annotations.Nullable Object get(")
+                .append(recordName).append(" instance, int index) {\n")
+                .append("        return switch (index) {\n");
+        for (var i = 0; i < components.size(); i++) {
+            source.append("            case ").append(i).append(" -> instance.")
+                    .append(components.get(i).getSimpleName()).append("();\n");
+        }
+        source.append("            default -> throw new IndexOutOfBoundsException(index);\n")
+                .append("        };\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(recordName).append(" withProperty(")
+                .append(recordName).append(" original, int index, @org.jspecify.annotations.Nullable Object value) {\n")
+                .append("        return switch (index) {\n");
+        for (var i = 0; i < components.size(); i++) {
+            var arguments = new ArrayList<String>();
+            for (var j = 0; j < components.size(); j++) {
+                var component = components.get(j);
+                arguments.add(
+                        i == j
+                                ? "(" + boxedSourceNameOf(component.asType()) + ") value"
+                                : "original." + component.getSimpleName() + "()"
+                );
+            }
+            source.append("            case ").append(i).append(" -> new ").append(recordName)
+                    .append("(").append(String.join(", ", arguments)).append(");\n");
+        }
+        source.append("            default -> throw new IndexOutOfBoundsException(index);\n")
+                .append("        };\n")
+                .append("    }\n")
+                .append("}\n");
+
+        var qualifiedName = packageName.isEmpty() ? descriptorName : packageName + "." + descriptorName;
+        try {
+            var file = processingEnv.getFiler().createSourceFile(qualifiedName, recordType);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(recordType, "Error writing validation descriptor: " + e.getMessage());
+        }
+    }
+
+    private static String getDescriptorName(TypeElement recordType) {
+        // Nested records are named after their enclosing classes: Outer_Inner_ValidationDescriptor
+        var name = new StringBuilder(recordType.getSimpleName());
+        for (var enclosing = recordType.getEnclosingElement();
+             enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name + ValidationDescriptor.SUFFIX;
+    }
+
+    private boolean isAnnotated(RecordComponentElement component, Set<String> annotationNames) {
+        // Declaration annotations end up on the component, type-use annotations (e.g. JSpecify) on its type
+        return Stream.concat(
+                component.getAnnotationMirrors().stream(),
+                component.asType().getAnnotationMirrors().stream()
+        ).anyMatch(mirror -> annotationNames.stream().anyMatch(name -> isAnnotation(mirror, name)));
+    }
+
+    private static boolean isAnnotation(AnnotationMirror mirror, String name) {
+        var element = (TypeElement) mirror.getAnnotationType().asElement();
+        return element.getQualifiedName().contentEquals(name);
+    }
+
+    /**
+     * The erased type as it can be written in source code, without any type-use annotations or type arguments.
+     */
+    private String sourceNameOf(TypeMirror type) {
+        var erasure = processingEnv.getTypeUtils().erasure(type);
+
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (erasure instanceof ArrayType arrayType) {
+            return sourceNameOf(arrayType.getComponentType()) + "[]";
+        }
+        if (erasure instanceof DeclaredType declaredType) {
+            return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        }
+        return Object.class.getName();
+    }
+
+    private String boxedSourceNameOf(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            var types = processingEnv.getTypeUtils();
+            return sourceNameOf(types.boxedClass(types.getPrimitiveType(type.getKind())).asType());
+        }
+        return sourceNameOf(type);
+    }
+
+    private static String join(Stream<String> values) {
+        return values.collect(Collectors.joining(", "));
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
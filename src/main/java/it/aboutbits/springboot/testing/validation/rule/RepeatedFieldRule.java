@@ -2,12 +2,14 @@ package it.aboutbits.springboot.testing.validation.rule;
 
 import com.google.errorprone.annotations.CheckReturnValue;
 import it.aboutbits.springboot.testing.validation.core.BaseRuleBuilder;
+import it.aboutbits.springboot.testing.validation.core.ClassAnnotationIndex;
+import it.aboutbits.springboot.testing.validation.core.CrossFieldMutation;
 import it.aboutbits.springboot.testing.validation.core.CustomValidationFunction;
 import it.aboutbits.springboot.testing.validation.core.ValidationRulesData;
 import it.aboutbits.springboot.toolbox.validation.annotation.RepeatedField;
 import org.jspecify.annotations.NullMarked;
 
-import java.util.Arrays;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unchecked")
 @NullMarked
@@ -16,22 +18,9 @@ public interface RepeatedFieldRule<V extends BaseRuleBuilder<?>> extends Validat
     default V repeatedField(String originalField, String repeatedField) {
         addValidationFunction(
                 (Object o) -> {
-                    var isValid = false;
-                    var currentClass = o.getClass();
-
-                    while (currentClass != null) {
-                        var annotations = currentClass.getDeclaredAnnotationsByType(RepeatedField.class);
-
-                        isValid = Arrays.stream(annotations).anyMatch(
-                                a -> a.originalField().equals(originalField) && a.repeatedField()
-                                        .equals(repeatedField)
-                        );
-
-                        if (isValid) {
-                            break;
-                        }
-                        currentClass = currentClass.getSuperclass();
-                    }
+                    var isValid = ClassAnnotationIndex.annotationsOf(o.getClass(), RepeatedField.class).stream()
+                            .anyMatch(a -> a.originalField().equals(originalField)
+                                    && a.repeatedField().equals(repeatedField));
 
                     return new CustomValidationFunction.Result(
                             isValid,
@@ -43,6 +32,25 @@ public interface RepeatedFieldRule<V extends BaseRuleBuilder<?>> extends Validat
                 }
         );
 
+        // A repeated value that differs from the original one must be rejected, only text values are covered
+        addCrossFieldMutation(new CrossFieldMutation(
+                RepeatedField.class,
+                repeatedField,
+                "%s not matching %s".formatted(repeatedField, originalField),
+                values -> {
+                    var original = values.apply(originalField);
+                    if (!(original instanceof CharSequence text)) {
+                        return CrossFieldMutation.unsupported(
+                                "repeatedField requires a text in %s of the valid parameter, got: %s".formatted(
+                                        originalField,
+                                        original
+                                )
+                        );
+                    }
+                    return Stream.of(text + "x");
+                }
+        ));
+
         return (V) this;
     }
 }
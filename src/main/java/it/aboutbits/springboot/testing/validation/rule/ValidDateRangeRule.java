@@ -2,12 +2,16 @@ package it.aboutbits.springboot.testing.validation.rule;
 
 import com.google.errorprone.annotations.CheckReturnValue;
 import it.aboutbits.springboot.testing.validation.core.BaseRuleBuilder;
+import it.aboutbits.springboot.testing.validation.core.ClassAnnotationIndex;
+import it.aboutbits.springboot.testing.validation.core.CrossFieldMutation;
 import it.aboutbits.springboot.testing.validation.core.CustomValidationFunction;
 import it.aboutbits.springboot.testing.validation.core.ValidationRulesData;
 import it.aboutbits.springboot.toolbox.validation.annotation.ValidDateRange;
 import org.jspecify.annotations.NullMarked;
 
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unchecked")
 @NullMarked
@@ -16,22 +20,9 @@ public interface ValidDateRangeRule<V extends BaseRuleBuilder<?>> extends Valida
     default V validDateRange(String fromDateField, String toDateField) {
         addValidationFunction(
                 (Object o) -> {
-                    var isValid = false;
-                    var currentClass = o.getClass();
-
-                    while (currentClass != null) {
-                        var annotations = currentClass.getDeclaredAnnotationsByType(ValidDateRange.class);
-
-                        isValid = Arrays.stream(annotations).anyMatch(
-                                a -> a.fromDateField().equals(fromDateField) && a.toDateField()
-                                        .equals(toDateField)
-                        );
-
-                        if (isValid) {
-                            break;
-                        }
-                        currentClass = currentClass.getSuperclass();
-                    }
+                    var isValid = ClassAnnotationIndex.annotationsOf(o.getClass(), ValidDateRange.class).stream()
+                            .anyMatch(a -> a.fromDateField().equals(fromDateField)
+                                    && a.toDateField().equals(toDateField));
 
                     return new CustomValidationFunction.Result(
                             isValid,
@@ -43,6 +34,9 @@ public interface ValidDateRangeRule<V extends BaseRuleBuilder<?>> extends Valida
                 }
         );
 
+        // The annotation may allow empty ranges, so only a to-date strictly before the from-date is checked
+        addCrossFieldMutation(toDateBefore(fromDateField, toDateField, true));
+
         return (V) this;
     }
 
@@ -54,23 +48,10 @@ public interface ValidDateRangeRule<V extends BaseRuleBuilder<?>> extends Valida
     ) {
         addValidationFunction(
                 (Object o) -> {
-                    var isValid = false;
-                    var currentClass = o.getClass();
-
-                    while (currentClass != null) {
-                        var annotations = currentClass.getDeclaredAnnotationsByType(ValidDateRange.class);
-
-                        isValid = Arrays.stream(annotations).anyMatch(
-                                a -> a.fromDateField().equals(fromDateField)
-                                        && a.toDateField().equals(toDateField)
-                                        && a.allowEmptyRange() == allowEmptyRange
-                        );
-
-                        if (isValid) {
-                            break;
-                        }
-                        currentClass = currentClass.getSuperclass();
-                    }
+                    var isValid = ClassAnnotationIndex.annotationsOf(o.getClass(), ValidDateRange.class).stream()
+                            .anyMatch(a -> a.fromDateField().equals(fromDateField)
+                                    && a.toDateField().equals(toDateField)
+                                    && a.allowEmptyRange() == allowEmptyRange);
 
                     return new CustomValidationFunction.Result(
                             isValid,
@@ -80,6 +61,43 @@ public interface ValidDateRangeRule<V extends BaseRuleBuilder<?>> extends Valida
                 }
         );
 
+        addCrossFieldMutation(toDateBefore(fromDateField, toDateField, allowEmptyRange));
+
         return (V) this;
     }
+
+    // A to-date before the from-date (or equal to it, if empty ranges are not allowed) must be rejected.
+    // Only dates supporting days, months or years are covered (e.g. LocalDate, LocalDateTime, OffsetDateTime,
+    // ZonedDateTime, Instant, YearMonth and Year), times of day wrap around at midnight and are skipped.
+    private static CrossFieldMutation toDateBefore(String fromDateField, String toDateField, boolean allowEmptyRange) {
+        return new CrossFieldMutation(
+                ValidDateRange.class,
+                toDateField,
+                "%s before %s".formatted(toDateField, fromDateField),
+                values -> {
+                    var value = values.apply(fromDateField);
+                    if (!(value instanceof Temporal from)) {
+                        return CrossFieldMutation.unsupported(
+                                "validDateRange requires a date in %s of the valid parameter, got: %s".formatted(
+                                        fromDateField,
+                                        value
+                                )
+                        );
+                    }
+
+                    var unit = Stream.of(ChronoUnit.DAYS, ChronoUnit.MONTHS, ChronoUnit.YEARS)
+                            .filter(from::isSupported)
+                            .findFirst();
+                    if (unit.isEmpty()) {
+                        return CrossFieldMutation.unsupported(
+                                "validDateRange does not support %s, it must support days, months or years."
+                                        .formatted(from.getClass().getName())
+                        );
+                    }
+
+                    var before = from.minus(1, unit.get());
+                    return allowEmptyRange ? Stream.of(before) : Stream.of(before, from);
+                }
+        );
+    }
 }
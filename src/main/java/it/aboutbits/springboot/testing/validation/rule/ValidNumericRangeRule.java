@@ -2,12 +2,17 @@ package it.aboutbits.springboot.testing.validation.rule;
 
 import com.google.errorprone.annotations.CheckReturnValue;
 import it.aboutbits.springboot.testing.validation.core.BaseRuleBuilder;
+import it.aboutbits.springboot.testing.validation.core.ClassAnnotationIndex;
+import it.aboutbits.springboot.testing.validation.core.CrossFieldMutation;
 import it.aboutbits.springboot.testing.validation.core.CustomValidationFunction;
 import it.aboutbits.springboot.testing.validation.core.ValidationRulesData;
 import it.aboutbits.springboot.toolbox.validation.annotation.ValidNumericRange;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
-import java.util.Arrays;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.Stream;
 
 @SuppressWarnings("unchecked")
 @NullMarked
@@ -16,22 +21,9 @@ public interface ValidNumericRangeRule<V extends BaseRuleBuilder<?>> extends Val
     default V validNumericRange(String lowerBoundField, String upperBoundField) {
         addValidationFunction(
                 (Object o) -> {
-                    var isValid = false;
-                    var currentClass = o.getClass();
-
-                    while (currentClass != null) {
-                        var annotations = currentClass.getDeclaredAnnotationsByType(ValidNumericRange.class);
-
-                        isValid = Arrays.stream(annotations).anyMatch(
-                                a -> a.lowerBoundField().equals(lowerBoundField) && a.upperBoundField()
-                                        .equals(upperBoundField)
-                        );
-
-                        if (isValid) {
-                            break;
-                        }
-                        currentClass = currentClass.getSuperclass();
-                    }
+                    var isValid = ClassAnnotationIndex.annotationsOf(o.getClass(), ValidNumericRange.class).stream()
+                            .anyMatch(a -> a.lowerBoundField().equals(lowerBoundField)
+                                    && a.upperBoundField().equals(upperBoundField));
 
                     return new CustomValidationFunction.Result(
                             isValid,
@@ -43,6 +35,9 @@ public interface ValidNumericRangeRule<V extends BaseRuleBuilder<?>> extends Val
                 }
         );
 
+        // The annotation may allow equal values, so only an upper bound strictly below the lower bound is checked
+        addCrossFieldMutation(upperBoundBelow(lowerBoundField, upperBoundField, true));
+
         return (V) this;
     }
 
@@ -54,23 +49,10 @@ public interface ValidNumericRangeRule<V extends BaseRuleBuilder<?>> extends Val
     ) {
         addValidationFunction(
                 (Object o) -> {
-                    var isValid = false;
-                    var currentClass = o.getClass();
-
-                    while (currentClass != null) {
-                        var annotations = currentClass.getDeclaredAnnotationsByType(ValidNumericRange.class);
-
-                        isValid = Arrays.stream(annotations).anyMatch(
-                                a -> a.lowerBoundField().equals(lowerBoundField)
-                                        && a.upperBoundField().equals(upperBoundField)
-                                        && a.allowEqualValues() == allowEqualValues
-                        );
-
-                        if (isValid) {
-                            break;
-                        }
-                        currentClass = currentClass.getSuperclass();
-                    }
+                    var isValid = ClassAnnotationIndex.annotationsOf(o.getClass(), ValidNumericRange.class).stream()
+                            .anyMatch(a -> a.lowerBoundField().equals(lowerBoundField)
+                                    && a.upperBoundField().equals(upperBoundField)
+                                    && a.allowEqualValues() == allowEqualValues);
 
                     return new CustomValidationFunction.Result(
                             isValid,
@@ -80,6 +62,59 @@ public interface ValidNumericRangeRule<V extends BaseRuleBuilder<?>> extends Val
                 }
         );
 
+        addCrossFieldMutation(upperBoundBelow(lowerBoundField, upperBoundField, allowEqualValues));
+
         return (V) this;
     }
+
+    // An upper bound below the lower bound (or equal to it, if equal values are not allowed) must be rejected.
+    // Only the primitive wrappers, BigInteger and BigDecimal are covered.
+    private static CrossFieldMutation upperBoundBelow(
+            String lowerBoundField,
+            String upperBoundField,
+            boolean allowEqualValues
+    ) {
+        return new CrossFieldMutation(
+                ValidNumericRange.class,
+                upperBoundField,
+                "%s below %s".formatted(upperBoundField, lowerBoundField),
+                values -> {
+                    var value = values.apply(lowerBoundField);
+                    if (!(value instanceof Number lower)) {
+                        return CrossFieldMutation.unsupported(
+                                "validNumericRange requires a number in %s of the valid parameter, got: %s".formatted(
+                                        lowerBoundField,
+                                        value
+                                )
+                        );
+                    }
+
+                    var below = decrement(lower);
+                    if (below == null) {
+                        return CrossFieldMutation.unsupported(
+                                "validNumericRange cannot create a value below %s (%s) of the valid parameter."
+                                        .formatted(lower, lower.getClass().getName())
+                        );
+                    }
+                    return allowEqualValues ? Stream.of(below) : Stream.of(below, lower);
+                }
+        );
+    }
+
+    // Null for the minimum value of the integral types and for unsupported types
+    @Nullable
+    private static Number decrement(Number value) {
+        return switch (value) {
+            case Byte b when b > Byte.MIN_VALUE -> (byte) (b - 1);
+            case Short s when s > Short.MIN_VALUE -> (short) (s - 1);
+            case Integer i when i > Integer.MIN_VALUE -> i - 1;
+            case Long l when l > Long.MIN_VALUE -> l - 1;
+            // One below may round to the same value for large floating point numbers
+            case Float f -> Math.min(f - 1, Math.nextDown(f));
+            case Double d -> Math.min(d - 1, Math.nextDown(d));
+            case BigInteger i -> i.subtract(BigInteger.ONE);
+            case BigDecimal d -> d.subtract(BigDecimal.ONE);
+            default -> null;
+        };
+    }
 }
@@ -1,5 +1,7 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.SeededRandom;
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import it.aboutbits.springboot.toolbox.type.ScaledBigDecimal;
 import org.jspecify.annotations.NullMarked;
@@ -7,52 +9,47 @@ import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 @NullMarked
 public class BiggerThanValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(Byte.class, BiggerThanValueSource::getByteStream);
-        TYPE_SOURCES.put(byte.class, BiggerThanValueSource::getByteStream);
+        TYPE_SOURCES.registerGlobally(Byte.class, BiggerThanValueSource::getByteStream);
+        TYPE_SOURCES.registerGlobally(byte.class, BiggerThanValueSource::getByteStream);
 
-        TYPE_SOURCES.put(Short.class, BiggerThanValueSource::getShortStream);
-        TYPE_SOURCES.put(short.class, BiggerThanValueSource::getShortStream);
+        TYPE_SOURCES.registerGlobally(Short.class, BiggerThanValueSource::getShortStream);
+        TYPE_SOURCES.registerGlobally(short.class, BiggerThanValueSource::getShortStream);
 
-        TYPE_SOURCES.put(Integer.class, BiggerThanValueSource::getIntegerStream);
-        TYPE_SOURCES.put(int.class, BiggerThanValueSource::getIntegerStream);
+        TYPE_SOURCES.registerGlobally(Integer.class, BiggerThanValueSource::getIntegerStream);
+        TYPE_SOURCES.registerGlobally(int.class, BiggerThanValueSource::getIntegerStream);
 
-        TYPE_SOURCES.put(Long.class, BiggerThanValueSource::getLongStream);
-        TYPE_SOURCES.put(long.class, BiggerThanValueSource::getLongStream);
+        TYPE_SOURCES.registerGlobally(Long.class, BiggerThanValueSource::getLongStream);
+        TYPE_SOURCES.registerGlobally(long.class, BiggerThanValueSource::getLongStream);
 
-        TYPE_SOURCES.put(Float.class, BiggerThanValueSource::getFloatStream);
-        TYPE_SOURCES.put(float.class, BiggerThanValueSource::getFloatStream);
+        TYPE_SOURCES.registerGlobally(Float.class, BiggerThanValueSource::getFloatStream);
+        TYPE_SOURCES.registerGlobally(float.class, BiggerThanValueSource::getFloatStream);
 
-        TYPE_SOURCES.put(Double.class, BiggerThanValueSource::getDoubleStream);
-        TYPE_SOURCES.put(double.class, BiggerThanValueSource::getDoubleStream);
+        TYPE_SOURCES.registerGlobally(Double.class, BiggerThanValueSource::getDoubleStream);
+        TYPE_SOURCES.registerGlobally(double.class, BiggerThanValueSource::getDoubleStream);
 
-        TYPE_SOURCES.put(BigInteger.class, BiggerThanValueSource::getBigIntegerStream);
-        TYPE_SOURCES.put(BigDecimal.class, BiggerThanValueSource::getBigDecimalStream);
-        TYPE_SOURCES.put(ScaledBigDecimal.class, BiggerThanValueSource::getScaledBigDecimalStream);
+        TYPE_SOURCES.registerGlobally(BigInteger.class, BiggerThanValueSource::getBigIntegerStream);
+        TYPE_SOURCES.registerGlobally(BigDecimal.class, BiggerThanValueSource::getBigDecimalStream);
+        TYPE_SOURCES.registerGlobally(ScaledBigDecimal.class, BiggerThanValueSource::getScaledBigDecimalStream);
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -64,7 +61,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue)
+                SeededRandom.current().ints(1, minValue, maxValue)
                         .mapToObj(value -> Byte.valueOf((byte) value))
         );
     }
@@ -75,7 +72,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue)
+                SeededRandom.current().ints(1, minValue, maxValue)
                         .mapToObj(value -> Short.valueOf((short) value))
         );
     }
@@ -86,7 +83,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue).boxed()
+                SeededRandom.current().ints(1, minValue, maxValue).boxed()
         );
     }
 
@@ -96,7 +93,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.longs(1, minValue, maxValue).boxed()
+                SeededRandom.current().longs(1, minValue, maxValue).boxed()
         );
     }
 
@@ -106,7 +103,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         Double::floatValue
                 )
         );
@@ -118,7 +115,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.doubles(1, minValue, maxValue).boxed()
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed()
         );
     }
 
@@ -128,7 +125,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(BigInteger.valueOf(minValue), BigInteger.valueOf(maxValue)),
-                RANDOM.longs(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().longs(1, minValue, maxValue).boxed().map(
                         BigInteger::valueOf
                 )
         );
@@ -140,7 +137,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(BigDecimal.valueOf(minValue), BigDecimal.valueOf(maxValue)),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         BigDecimal::valueOf
                 )
         );
@@ -152,7 +149,7 @@ public class BiggerThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(ScaledBigDecimal.valueOf(minValue), ScaledBigDecimal.valueOf(maxValue)),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         ScaledBigDecimal::valueOf
                 )
         );
@@ -1,20 +1,19 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 @NullMarked
 public class BlankValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(
+        TYPE_SOURCES.registerGlobally(
                 String.class,
                 (Object[] args) -> Stream.of("", " ", "         ", "\t", "\r", "\n", "\r\n")
         );
@@ -22,15 +21,14 @@ public class BlankValueSource implements ValueSource {
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -1,5 +1,6 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -15,39 +16,36 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 @NullMarked
 public class FutureValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     // https://jakarta.ee/specifications/bean-validation/3.0/apidocs/jakarta/validation/constraints/future
     static {
-        TYPE_SOURCES.put(Instant.class, FutureValueSource::getInstantStream);
-        TYPE_SOURCES.put(LocalTime.class, FutureValueSource::getLocalTimeStream);
-        TYPE_SOURCES.put(LocalDate.class, FutureValueSource::getLocalDateStream);
-        TYPE_SOURCES.put(LocalDateTime.class, FutureValueSource::getLocalDateTimeStream);
-        TYPE_SOURCES.put(OffsetTime.class, FutureValueSource::getOffsetTimeStream);
-        TYPE_SOURCES.put(OffsetDateTime.class, FutureValueSource::getOffsetDateTimeStream);
-        TYPE_SOURCES.put(Year.class, FutureValueSource::getYearStream);
-        TYPE_SOURCES.put(YearMonth.class, FutureValueSource::getYearMonthStream);
-        TYPE_SOURCES.put(ZonedDateTime.class, FutureValueSource::getZonedDateTimeStream);
+        TYPE_SOURCES.registerGlobally(Instant.class, FutureValueSource::getInstantStream);
+        TYPE_SOURCES.registerGlobally(LocalTime.class, FutureValueSource::getLocalTimeStream);
+        TYPE_SOURCES.registerGlobally(LocalDate.class, FutureValueSource::getLocalDateStream);
+        TYPE_SOURCES.registerGlobally(LocalDateTime.class, FutureValueSource::getLocalDateTimeStream);
+        TYPE_SOURCES.registerGlobally(OffsetTime.class, FutureValueSource::getOffsetTimeStream);
+        TYPE_SOURCES.registerGlobally(OffsetDateTime.class, FutureValueSource::getOffsetDateTimeStream);
+        TYPE_SOURCES.registerGlobally(Year.class, FutureValueSource::getYearStream);
+        TYPE_SOURCES.registerGlobally(YearMonth.class, FutureValueSource::getYearMonthStream);
+        TYPE_SOURCES.registerGlobally(ZonedDateTime.class, FutureValueSource::getZonedDateTimeStream);
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -1,5 +1,7 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.SeededRandom;
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import it.aboutbits.springboot.toolbox.type.ScaledBigDecimal;
 import org.jspecify.annotations.NullMarked;
@@ -7,53 +9,48 @@ import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 // For floating point values: The negative max value is the minimum, MIN_VALUE is the smallest positive
 @NullMarked
 public class LessThanValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(Byte.class, LessThanValueSource::getByteStream);
-        TYPE_SOURCES.put(byte.class, LessThanValueSource::getByteStream);
+        TYPE_SOURCES.registerGlobally(Byte.class, LessThanValueSource::getByteStream);
+        TYPE_SOURCES.registerGlobally(byte.class, LessThanValueSource::getByteStream);
 
-        TYPE_SOURCES.put(Short.class, LessThanValueSource::getShortStream);
-        TYPE_SOURCES.put(short.class, LessThanValueSource::getShortStream);
+        TYPE_SOURCES.registerGlobally(Short.class, LessThanValueSource::getShortStream);
+        TYPE_SOURCES.registerGlobally(short.class, LessThanValueSource::getShortStream);
 
-        TYPE_SOURCES.put(Integer.class, LessThanValueSource::getIntegerStream);
-        TYPE_SOURCES.put(int.class, LessThanValueSource::getIntegerStream);
+        TYPE_SOURCES.registerGlobally(Integer.class, LessThanValueSource::getIntegerStream);
+        TYPE_SOURCES.registerGlobally(int.class, LessThanValueSource::getIntegerStream);
 
-        TYPE_SOURCES.put(Long.class, LessThanValueSource::getLongStream);
-        TYPE_SOURCES.put(long.class, LessThanValueSource::getLongStream);
+        TYPE_SOURCES.registerGlobally(Long.class, LessThanValueSource::getLongStream);
+        TYPE_SOURCES.registerGlobally(long.class, LessThanValueSource::getLongStream);
 
-        TYPE_SOURCES.put(Float.class, LessThanValueSource::getFloatStream);
-        TYPE_SOURCES.put(float.class, LessThanValueSource::getFloatStream);
+        TYPE_SOURCES.registerGlobally(Float.class, LessThanValueSource::getFloatStream);
+        TYPE_SOURCES.registerGlobally(float.class, LessThanValueSource::getFloatStream);
 
-        TYPE_SOURCES.put(Double.class, LessThanValueSource::getDoubleStream);
-        TYPE_SOURCES.put(double.class, LessThanValueSource::getDoubleStream);
+        TYPE_SOURCES.registerGlobally(Double.class, LessThanValueSource::getDoubleStream);
+        TYPE_SOURCES.registerGlobally(double.class, LessThanValueSource::getDoubleStream);
 
-        TYPE_SOURCES.put(BigInteger.class, LessThanValueSource::getBigIntegerStream);
-        TYPE_SOURCES.put(BigDecimal.class, LessThanValueSource::getBigDecimalStream);
-        TYPE_SOURCES.put(ScaledBigDecimal.class, LessThanValueSource::getScaledBigDecimalStream);
+        TYPE_SOURCES.registerGlobally(BigInteger.class, LessThanValueSource::getBigIntegerStream);
+        TYPE_SOURCES.registerGlobally(BigDecimal.class, LessThanValueSource::getBigDecimalStream);
+        TYPE_SOURCES.registerGlobally(ScaledBigDecimal.class, LessThanValueSource::getScaledBigDecimalStream);
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -65,7 +62,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue)
+                SeededRandom.current().ints(1, minValue, maxValue)
                         .mapToObj(value -> Byte.valueOf((byte) value))
         );
     }
@@ -76,7 +73,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue)
+                SeededRandom.current().ints(1, minValue, maxValue)
                         .mapToObj(value -> Short.valueOf((short) value))
         );
     }
@@ -87,7 +84,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.ints(1, minValue, maxValue).boxed()
+                SeededRandom.current().ints(1, minValue, maxValue).boxed()
         );
     }
 
@@ -97,7 +94,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.longs(1, minValue, maxValue).boxed()
+                SeededRandom.current().longs(1, minValue, maxValue).boxed()
         );
     }
 
@@ -107,7 +104,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         Double::floatValue
                 )
         );
@@ -119,7 +116,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(minValue, maxValue),
-                RANDOM.doubles(1, minValue, maxValue).boxed()
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed()
         );
     }
 
@@ -129,7 +126,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(BigInteger.valueOf(minValue), BigInteger.valueOf(maxValue)),
-                RANDOM.longs(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().longs(1, minValue, maxValue).boxed().map(
                         BigInteger::valueOf
                 )
         );
@@ -141,7 +138,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(BigDecimal.valueOf(minValue), BigDecimal.valueOf(maxValue)),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         BigDecimal::valueOf
                 )
         );
@@ -153,7 +150,7 @@ public class LessThanValueSource implements ValueSource {
 
         return Stream.concat(
                 Stream.of(ScaledBigDecimal.valueOf(minValue), ScaledBigDecimal.valueOf(maxValue)),
-                RANDOM.doubles(1, minValue, maxValue).boxed().map(
+                SeededRandom.current().doubles(1, minValue, maxValue).boxed().map(
                         ScaledBigDecimal::valueOf
                 )
         );
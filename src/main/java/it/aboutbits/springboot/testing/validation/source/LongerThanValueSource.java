@@ -1,62 +1,60 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.SeededRandom;
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 @NullMarked
 public class LongerThanValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(String.class, LongerThanValueSource::getStream);
+        TYPE_SOURCES.registerGlobally(String.class, args -> getStream(args, LongerThanValueSource::generateRandomString));
+        // CharSequence properties get virtual instances that only report their length, see SizedValues
+        TYPE_SOURCES.registerGlobally(CharSequence.class, args -> getStream(args, SizedValues::charSequence));
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
     }
 
-    private static Stream<String> getStream(Object[] args) {
+    private static Stream<CharSequence> getStream(Object[] args, IntFunction<CharSequence> generator) {
         var length = Long.valueOf((long) args[0]).intValue();
         var minLength = length + 1;
 
         var maxLength = length + 1024;
 
         if (minLength == maxLength) {
-            return Stream.of(generateRandomString(minLength));
+            return Stream.of(generator.apply(minLength));
         }
 
-        var randomLength = RANDOM.nextInt(minLength, maxLength);
+        var randomLength = SeededRandom.current().nextInt(minLength, maxLength);
 
         return Stream.of(
-                generateRandomString(minLength),
-                generateRandomString(maxLength),
-                generateRandomString(randomLength)
+                generator.apply(minLength),
+                generator.apply(maxLength),
+                generator.apply(randomLength)
         ).distinct();
     }
 
     private static String generateRandomString(int length) {
-        return RANDOM.ints(length, 32, 127)
-                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-                .toString();
+        return SizedValues.string(length);
     }
 }
@@ -1,5 +1,6 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -14,7 +15,6 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -25,31 +25,30 @@ import java.util.stream.Stream;
 
 @NullMarked
 public class SizeGreaterThanValueSource implements ValueSource {
-    private static final Map<Class<?>, LongFunction<Stream<?>>> TYPE_SOURCES = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final TypeRegistry<LongFunction<Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(String.class, SizeGreaterThanValueSource::getStringStream);
-        TYPE_SOURCES.put(CharSequence.class, SizeGreaterThanValueSource::getStringStream);
-        TYPE_SOURCES.put(Collection.class, SizeGreaterThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(List.class, SizeGreaterThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(ArrayList.class, SizeGreaterThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(LinkedList.class, SizeGreaterThanValueSource::getLinkedListStream);
-        TYPE_SOURCES.put(Set.class, SizeGreaterThanValueSource::getHashSetStream);
-        TYPE_SOURCES.put(HashSet.class, SizeGreaterThanValueSource::getHashSetStream);
-        TYPE_SOURCES.put(LinkedHashSet.class, SizeGreaterThanValueSource::getLinkedHashSetStream);
-        TYPE_SOURCES.put(TreeSet.class, SizeGreaterThanValueSource::getTreeSetStream);
-        TYPE_SOURCES.put(Map.class, SizeGreaterThanValueSource::getHashMapStream);
-        TYPE_SOURCES.put(HashMap.class, SizeGreaterThanValueSource::getHashMapStream);
-        TYPE_SOURCES.put(LinkedHashMap.class, SizeGreaterThanValueSource::getLinkedHashMapStream);
-        TYPE_SOURCES.put(TreeMap.class, SizeGreaterThanValueSource::getTreeMapStream);
-        TYPE_SOURCES.put(ConcurrentMap.class, SizeGreaterThanValueSource::getConcurrentHashMapStream);
-        TYPE_SOURCES.put(ConcurrentHashMap.class, SizeGreaterThanValueSource::getConcurrentHashMapStream);
+        TYPE_SOURCES.registerGlobally(String.class, SizeGreaterThanValueSource::getStringStream);
+        TYPE_SOURCES.registerGlobally(CharSequence.class, SizeGreaterThanValueSource::getCharSequenceStream);
+        TYPE_SOURCES.registerGlobally(Collection.class, SizeGreaterThanValueSource::getSizedListStream);
+        TYPE_SOURCES.registerGlobally(List.class, SizeGreaterThanValueSource::getSizedListStream);
+        TYPE_SOURCES.registerGlobally(ArrayList.class, SizeGreaterThanValueSource::getArrayListStream);
+        TYPE_SOURCES.registerGlobally(LinkedList.class, SizeGreaterThanValueSource::getLinkedListStream);
+        TYPE_SOURCES.registerGlobally(Set.class, SizeGreaterThanValueSource::getSizedSetStream);
+        TYPE_SOURCES.registerGlobally(HashSet.class, SizeGreaterThanValueSource::getHashSetStream);
+        TYPE_SOURCES.registerGlobally(LinkedHashSet.class, SizeGreaterThanValueSource::getLinkedHashSetStream);
+        TYPE_SOURCES.registerGlobally(TreeSet.class, SizeGreaterThanValueSource::getTreeSetStream);
+        TYPE_SOURCES.registerGlobally(Map.class, SizeGreaterThanValueSource::getSizedMapStream);
+        TYPE_SOURCES.registerGlobally(HashMap.class, SizeGreaterThanValueSource::getHashMapStream);
+        TYPE_SOURCES.registerGlobally(LinkedHashMap.class, SizeGreaterThanValueSource::getLinkedHashMapStream);
+        TYPE_SOURCES.registerGlobally(TreeMap.class, SizeGreaterThanValueSource::getTreeMapStream);
+        TYPE_SOURCES.registerGlobally(ConcurrentMap.class, SizeGreaterThanValueSource::getConcurrentHashMapStream);
+        TYPE_SOURCES.registerGlobally(ConcurrentHashMap.class, SizeGreaterThanValueSource::getConcurrentHashMapStream);
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, LongFunction<Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
@@ -61,9 +60,9 @@ public class SizeGreaterThanValueSource implements ValueSource {
             return (Stream<@Nullable T>) arrayFunction(propertyClass, value);
         }
 
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(value);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(value));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -85,6 +84,31 @@ public class SizeGreaterThanValueSource implements ValueSource {
                 .map(size -> generateRandomString(Math.toIntExact(size)));
     }
 
+    // Interface types get virtual instances that only report their size, see SizedValues
+    private static Stream<CharSequence> getCharSequenceStream(long value) {
+        return getTestSizes(value)
+                .stream()
+                .map(size -> SizedValues.charSequence(Math.toIntExact(size)));
+    }
+
+    private static Stream<Collection<?>> getSizedListStream(long value) {
+        return getTestSizes(value)
+                .stream()
+                .map(size -> SizedValues.list(Math.toIntExact(size)));
+    }
+
+    private static Stream<Collection<?>> getSizedSetStream(long value) {
+        return getTestSizes(value)
+                .stream()
+                .map(size -> SizedValues.set(Math.toIntExact(size)));
+    }
+
+    private static Stream<Map<?, ?>> getSizedMapStream(long value) {
+        return getTestSizes(value)
+                .stream()
+                .map(size -> SizedValues.map(Math.toIntExact(size)));
+    }
+
     private static Stream<Collection<?>> getHashSetStream(long value) {
         return getTestSizes(value)
                 .stream()
@@ -178,9 +202,7 @@ public class SizeGreaterThanValueSource implements ValueSource {
 
     private static String generateRandomString(int length) {
         // Include printable ASCII characters (32-126) which includes space and common characters
-        return RANDOM.ints(length, 32, 127)
-                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-                .toString();
+        return SizedValues.string(length);
     }
 
     private static Collection<Object> generateCollection(int size, Collection<Object> collection) {
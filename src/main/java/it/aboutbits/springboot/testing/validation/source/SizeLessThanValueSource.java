@@ -1,5 +1,6 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -14,42 +15,41 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.LongFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @NullMarked
 public class SizeLessThanValueSource implements ValueSource {
-    private static final Map<Class<?>, LongFunction<Stream<?>>> TYPE_SOURCES = new HashMap<>();
-    private static final Random RANDOM = new Random();
+    private static final TypeRegistry<LongFunction<Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(String.class, SizeLessThanValueSource::getStringStream);
-        TYPE_SOURCES.put(CharSequence.class, SizeLessThanValueSource::getStringStream);
-        TYPE_SOURCES.put(Collection.class, SizeLessThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(List.class, SizeLessThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(ArrayList.class, SizeLessThanValueSource::getArrayListStream);
-        TYPE_SOURCES.put(LinkedList.class, SizeLessThanValueSource::getLinkedListStream);
-        TYPE_SOURCES.put(Set.class, SizeLessThanValueSource::getHashSetStream);
-        TYPE_SOURCES.put(HashSet.class, SizeLessThanValueSource::getHashSetStream);
-        TYPE_SOURCES.put(LinkedHashSet.class, SizeLessThanValueSource::getLinkedHashSetStream);
-        TYPE_SOURCES.put(TreeSet.class, SizeLessThanValueSource::getTreeSetStream);
-        TYPE_SOURCES.put(Map.class, SizeLessThanValueSource::getHashMapStream);
-        TYPE_SOURCES.put(HashMap.class, SizeLessThanValueSource::getHashMapStream);
-        TYPE_SOURCES.put(LinkedHashMap.class, SizeLessThanValueSource::getLinkedHashMapStream);
-        TYPE_SOURCES.put(TreeMap.class, SizeLessThanValueSource::getTreeMapStream);
-        TYPE_SOURCES.put(ConcurrentMap.class, SizeLessThanValueSource::getConcurrentHashMapStream);
-        TYPE_SOURCES.put(ConcurrentHashMap.class, SizeLessThanValueSource::getConcurrentHashMapStream);
+        TYPE_SOURCES.registerGlobally(String.class, SizeLessThanValueSource::getStringStream);
+        TYPE_SOURCES.registerGlobally(CharSequence.class, SizeLessThanValueSource::getStringStream);
+        TYPE_SOURCES.registerGlobally(Collection.class, SizeLessThanValueSource::getSizedListStream);
+        TYPE_SOURCES.registerGlobally(List.class, SizeLessThanValueSource::getSizedListStream);
+        TYPE_SOURCES.registerGlobally(ArrayList.class, SizeLessThanValueSource::getArrayListStream);
+        TYPE_SOURCES.registerGlobally(LinkedList.class, SizeLessThanValueSource::getLinkedListStream);
+        TYPE_SOURCES.registerGlobally(Set.class, SizeLessThanValueSource::getSizedSetStream);
+        TYPE_SOURCES.registerGlobally(HashSet.class, SizeLessThanValueSource::getHashSetStream);
+        TYPE_SOURCES.registerGlobally(LinkedHashSet.class, SizeLessThanValueSource::getLinkedHashSetStream);
+        TYPE_SOURCES.registerGlobally(TreeSet.class, SizeLessThanValueSource::getTreeSetStream);
+        TYPE_SOURCES.registerGlobally(Map.class, SizeLessThanValueSource::getSizedMapStream);
+        TYPE_SOURCES.registerGlobally(HashMap.class, SizeLessThanValueSource::getHashMapStream);
+        TYPE_SOURCES.registerGlobally(LinkedHashMap.class, SizeLessThanValueSource::getLinkedHashMapStream);
+        TYPE_SOURCES.registerGlobally(TreeMap.class, SizeLessThanValueSource::getTreeMapStream);
+        TYPE_SOURCES.registerGlobally(ConcurrentMap.class, SizeLessThanValueSource::getConcurrentHashMapStream);
+        TYPE_SOURCES.registerGlobally(ConcurrentHashMap.class, SizeLessThanValueSource::getConcurrentHashMapStream);
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, LongFunction<Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
@@ -69,9 +69,9 @@ public class SizeLessThanValueSource implements ValueSource {
             return (Stream<@Nullable T>) arrayFunction(propertyClass, value);
         }
 
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(value);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(value));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
@@ -88,6 +88,7 @@ public class SizeLessThanValueSource implements ValueSource {
         );
     }
 
+    // The strings are random, so they are generated for each rule and never cached (see SeededRandom)
     private static Stream<String> getStringStream(long value) {
         return Stream.concat(
                 Stream.of(""),
@@ -96,6 +97,23 @@ public class SizeLessThanValueSource implements ValueSource {
         );
     }
 
+    // Interface types get virtual instances (see SizedValues), which are cheap enough to create for every rule
+    private static Stream<Collection<?>> getSizedListStream(long value) {
+        return getTestSizes(value).<Collection<?>>map(SizedValues::list);
+    }
+
+    private static Stream<Collection<?>> getSizedSetStream(long value) {
+        return getTestSizes(value).<Collection<?>>map(SizedValues::set);
+    }
+
+    private static Stream<Map<?, ?>> getSizedMapStream(long value) {
+        return getTestSizes(value).<Map<?, ?>>map(SizedValues::map);
+    }
+
+    private static Stream<Integer> getTestSizes(long value) {
+        return IntStream.range(0, Math.toIntExact(value)).boxed();
+    }
+
     private static Stream<Collection<?>> getArrayListStream(long value) {
         return Stream.concat(
                 Stream.of(new ArrayList<>()),
@@ -197,9 +215,7 @@ public class SizeLessThanValueSource implements ValueSource {
 
     private static String generateRandomString(int length) {
         // Include printable ASCII characters (32-126) which includes space and common characters
-        return RANDOM.ints(length, 32, 127)
-                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-                .toString();
+        return SizedValues.string(length);
     }
 
     private static Collection<Object> generateCollection(int size, Collection<Object> collection) {
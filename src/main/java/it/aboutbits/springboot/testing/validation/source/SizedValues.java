@@ -0,0 +1,189 @@
+package it.aboutbits.springboot.testing.validation.source;
+
+import it.aboutbits.springboot.testing.validation.core.SeededRandom;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Values of a given size for the size related value-sources.
+ * <p>
+ * Properties declared as an interface (CharSequence, Collection, List, Set, Map) get virtual instances that only
+ * report the required size and compute their elements on access. They need constant memory, so limits like
+ * {@code @Size(max = 1_000_000)} can be tested with a small heap. The virtual instances are immutable, so they can be
+ * shared between mutations. Concrete types (e.g. String or ArrayList) still get real instances.
+ * </p>
+ */
+@NullMarked
+final class SizedValues {
+    private static final String ELEMENT_PREFIX = "dummy_";
+
+    private SizedValues() {
+    }
+
+    /**
+     * A random string of printable ASCII characters (32-126), built without intermediate buffers.
+     */
+    static String string(int length) {
+        var random = SeededRandom.current();
+        var bytes = new byte[length];
+        for (var i = 0; i < length; i++) {
+            bytes[i] = (byte) random.nextInt(32, 127);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    static CharSequence charSequence(int length) {
+        return new SizedCharSequence(length, SeededRandom.current().nextLong());
+    }
+
+    static List<Object> list(int size) {
+        return new SizedList(size);
+    }
+
+    static Set<Object> set(int size) {
+        return new SizedSet<>(size, SizedValues::element);
+    }
+
+    static Map<Object, Object> map(int size) {
+        return new SizedMap(size);
+    }
+
+    private static Object element(int index) {
+        return ELEMENT_PREFIX + index;
+    }
+
+    private static final class SizedCharSequence implements CharSequence {
+        private final int length;
+        private final long seed;
+
+        private SizedCharSequence(int length, long seed) {
+            this.length = length;
+            this.seed = seed;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+
+            // Printable ASCII characters (32-126), derived from the position so that no buffer is required
+            return (char) (32 + Math.floorMod(mix(seed + index), 95));
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new SizedCharSequence(end - start, seed + start);
+        }
+
+        @Override
+        public String toString() {
+            // Only materialized if a validator really needs the content
+            var bytes = new byte[length];
+            for (var i = 0; i < length; i++) {
+                bytes[i] = (byte) charAt(i);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+
+        private static long mix(long value) {
+            var z = value * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 32)) * 0xBF58476D1CE4E5B9L;
+            return z ^ (z >>> 29);
+        }
+    }
+
+    private static final class SizedList extends AbstractList<Object> implements RandomAccess {
+        private final int size;
+
+        private SizedList(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Object get(int index) {
+            Objects.checkIndex(index, size);
+            return element(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class SizedSet<E> extends AbstractSet<E> {
+        private final int size;
+        private final IntFunction<E> elements;
+
+        private SizedSet(int size, IntFunction<E> elements) {
+            this.size = size;
+            this.elements = elements;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements.apply(index++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class SizedMap extends AbstractMap<Object, Object> {
+        private final Set<Map.Entry<Object, Object>> entries;
+
+        private SizedMap(int size) {
+            this.entries = new SizedSet<>(size, index -> Map.entry(index, element(index)));
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return key instanceof Integer index && index >= 0 && index < entries.size();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package it.aboutbits.springboot.testing.validation.source;
 
+import it.aboutbits.springboot.testing.validation.core.TypeRegistry;
 import it.aboutbits.springboot.testing.validation.core.ValueSource;
 import it.aboutbits.springboot.toolbox.type.ScaledBigDecimal;
 import org.jspecify.annotations.NullMarked;
@@ -7,50 +8,47 @@ import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 @NullMarked
 public class ZeroValueSource implements ValueSource {
-    private static final Map<Class<?>, Function<Object[], Stream<?>>> TYPE_SOURCES = new HashMap<>();
+    private static final TypeRegistry<Function<Object[], Stream<?>>> TYPE_SOURCES = new TypeRegistry<>();
 
     static {
-        TYPE_SOURCES.put(Byte.class, (Object[] args) -> Stream.of((byte) 0));
-        TYPE_SOURCES.put(byte.class, (Object[] args) -> Stream.of((byte) 0));
+        TYPE_SOURCES.registerGlobally(Byte.class, (Object[] args) -> Stream.of((byte) 0));
+        TYPE_SOURCES.registerGlobally(byte.class, (Object[] args) -> Stream.of((byte) 0));
 
-        TYPE_SOURCES.put(Short.class, (Object[] args) -> Stream.of((short) 0));
-        TYPE_SOURCES.put(short.class, (Object[] args) -> Stream.of((short) 0));
+        TYPE_SOURCES.registerGlobally(Short.class, (Object[] args) -> Stream.of((short) 0));
+        TYPE_SOURCES.registerGlobally(short.class, (Object[] args) -> Stream.of((short) 0));
 
-        TYPE_SOURCES.put(Integer.class, (Object[] args) -> Stream.of(0));
-        TYPE_SOURCES.put(int.class, (Object[] args) -> Stream.of(0));
+        TYPE_SOURCES.registerGlobally(Integer.class, (Object[] args) -> Stream.of(0));
+        TYPE_SOURCES.registerGlobally(int.class, (Object[] args) -> Stream.of(0));
 
-        TYPE_SOURCES.put(Long.class, (Object[] args) -> Stream.of(0L));
-        TYPE_SOURCES.put(long.class, (Object[] args) -> Stream.of(0L));
+        TYPE_SOURCES.registerGlobally(Long.class, (Object[] args) -> Stream.of(0L));
+        TYPE_SOURCES.registerGlobally(long.class, (Object[] args) -> Stream.of(0L));
 
-        TYPE_SOURCES.put(Float.class, (Object[] args) -> Stream.of(0f));
-        TYPE_SOURCES.put(float.class, (Object[] args) -> Stream.of(0f));
+        TYPE_SOURCES.registerGlobally(Float.class, (Object[] args) -> Stream.of(0f));
+        TYPE_SOURCES.registerGlobally(float.class, (Object[] args) -> Stream.of(0f));
 
-        TYPE_SOURCES.put(Double.class, (Object[] args) -> Stream.of(0d));
-        TYPE_SOURCES.put(double.class, (Object[] args) -> Stream.of(0d));
+        TYPE_SOURCES.registerGlobally(Double.class, (Object[] args) -> Stream.of(0d));
+        TYPE_SOURCES.registerGlobally(double.class, (Object[] args) -> Stream.of(0d));
 
-        TYPE_SOURCES.put(BigInteger.class, (Object[] args) -> Stream.of(BigInteger.ZERO));
-        TYPE_SOURCES.put(BigDecimal.class, (Object[] args) -> Stream.of(BigDecimal.ZERO));
-        TYPE_SOURCES.put(ScaledBigDecimal.class, (Object[] args) -> Stream.of(ScaledBigDecimal.ZERO));
+        TYPE_SOURCES.registerGlobally(BigInteger.class, (Object[] args) -> Stream.of(BigInteger.ZERO));
+        TYPE_SOURCES.registerGlobally(BigDecimal.class, (Object[] args) -> Stream.of(BigDecimal.ZERO));
+        TYPE_SOURCES.registerGlobally(ScaledBigDecimal.class, (Object[] args) -> Stream.of(ScaledBigDecimal.ZERO));
     }
 
     @SuppressWarnings("unused")
     public static void registerType(Class<?> type, Function<Object[], Stream<?>> source) {
-        TYPE_SOURCES.put(type, source);
+        TYPE_SOURCES.register(type, source);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
-        var sourceFunction = TYPE_SOURCES.get(propertyClass);
-        if (sourceFunction != null) {
-            return (Stream<@Nullable T>) sourceFunction.apply(args);
+        var values = TYPE_SOURCES.values(propertyClass, source -> source.apply(args));
+        if (values != null) {
+            return values;
         }
 
         throw new IllegalArgumentException("Property class not supported!");
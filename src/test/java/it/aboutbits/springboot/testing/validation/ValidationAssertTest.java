@@ -3,8 +3,19 @@ package it.aboutbits.springboot.testing.validation;
 import it.aboutbits.archunit.toolbox.support.ArchIgnoreNoProductionCounterpart;
 import it.aboutbits.springboot.testing.validation.core.BaseRuleBuilder;
 import it.aboutbits.springboot.testing.validation.core.BaseValidationAssert;
+import it.aboutbits.springboot.testing.validation.core.MutationProfile;
+import it.aboutbits.springboot.testing.validation.core.RegistryScope;
+import it.aboutbits.springboot.testing.validation.core.Rule;
+import it.aboutbits.springboot.testing.validation.core.RuleStatistics;
+import it.aboutbits.springboot.testing.validation.core.ValueSource;
+import it.aboutbits.springboot.testing.validation.core.ValueSourceRegistry;
 import it.aboutbits.springboot.toolbox.type.ScaledBigDecimal;
 import it.aboutbits.springboot.toolbox.validation.annotation.ValidPassword;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Payload;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Max;
@@ -25,8 +36,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.validation.annotation.Validated;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -44,9 +60,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static it.aboutbits.springboot.testing.validation.ValidationAssertTest.TestValidationAssert.assertThatValidation;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -758,6 +778,291 @@ class ValidationAssertTest {
                 .isCompliant();
     }
 
+    @Test
+    void inParallelShouldReportAllFailures() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        assertThatValidation().inParallel().of(validParameter)
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().inParallel().of(validParameter)
+                        .usingBeanValidation()
+                        .notBlank("name")
+                        .min("age", 40)
+                        .size("tags").minMax(2, 3)
+                        .nullable("nickname")
+                        .isCompliant()
+        ).withMessageContaining("age").withMessageContaining("tags");
+    }
+
+    @Test
+    void usingPropertyValidationShouldWork() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        assertThatValidation().of(validParameter)
+                .usingPropertyValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().of(validParameter)
+                        .usingPropertyValidation()
+                        .notBlank("name")
+                        .min("age", 40)
+                        .size("tags").minMax(1, 3)
+                        .nullable("nickname")
+                        .isCompliant()
+        );
+    }
+
+    @Test
+    void mutationProfilesShouldWork() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        assertThatValidation().withProfile(MutationProfile.SMOKE).of(validParameter)
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        assertThatValidation().withProfile(MutationProfile.EXHAUSTIVE, Duration.ofSeconds(10)).of(validParameter)
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+    }
+
+    @Test
+    void fuzzingShouldFindFailingCombinations() {
+        assertThatValidation().withProfile(MutationProfile.FUZZ, Duration.ofMillis(200))
+                .of(new SomeSmallParameter("Sepp", 32, List.of("a"), null))
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        // The age is only validated if the name is valid, but the combination is still rejected
+        assertThatValidation().withProfile(MutationProfile.FUZZ, Duration.ofMillis(200))
+                .of(new SomeSequencedParameter("Sepp", 32))
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .isCompliant();
+
+        // The validator only fails if both properties are invalid, which single mutations cannot detect
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().withProfile(MutationProfile.FUZZ, Duration.ofSeconds(10))
+                        .of(new SomeFragileParameter("Sepp", 32))
+                        .usingBeanValidation()
+                        .notBlank("name")
+                        .min("age", 18)
+                        .isCompliant()
+        ).withMessageContaining("Counterexample").withMessageContaining("Validation failed with an exception");
+    }
+
+    @Test
+    void fuzzingShouldUseTheRegistrationsOfTheScope() {
+        try (var _ = RegistryScope.open()) {
+            // The value-source has no no-args constructor, so the worker threads only find the scoped instance
+            ValueSourceRegistry.registerInstance(new FixedValueSource(" "));
+
+            var ruleBuilder = assertThatValidation().withProfile(MutationProfile.FUZZ, Duration.ofMillis(200))
+                    .of(new SomeSmallParameter("Sepp", 32, List.of("a"), null))
+                    .usingBeanValidation()
+                    .min("age", 18)
+                    .size("tags").minMax(1, 3)
+                    .nullable("nickname");
+            ruleBuilder.addRule(new Rule("name", FixedValueSource.class));
+
+            ruleBuilder.isCompliant();
+        }
+    }
+
+    @Test
+    void inferFromConstraintsShouldWork() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        assertThatValidation().of(validParameter)
+                .usingBeanValidation()
+                .inferFromConstraints()
+                .isCompliant();
+
+        // Explicit rules replace the inferred rules of the property
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().of(validParameter)
+                        .usingBeanValidation()
+                        .inferFromConstraints()
+                        .min("age", 40)
+                        .isCompliant()
+        ).withMessageContaining("age");
+    }
+
+    @Test
+    void specShouldNotLeakItsRulesIntoTheAssert() {
+        var validationAssert = assertThatValidation();
+        var _ = validationAssert.spec(
+                SomeSmallParameter.class,
+                rules -> rules.min("age", 40).inferFromConstraints()
+        );
+
+        validationAssert.of(new SomeSmallParameter("Sepp", 32, List.of("a"), null))
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+    }
+
+    @Test
+    void specShouldValidateManyFixtures() {
+        var spec = assertThatValidation().spec(
+                SomeSmallParameter.class,
+                rules -> rules.notBlank("name")
+                        .min("age", 18)
+                        .size("tags").minMax(1, 3)
+                        .nullable("nickname")
+        );
+
+        spec.assertCompliant(Stream.of(
+                new SomeSmallParameter("Sepp", 32, List.of("a"), null),
+                new SomeSmallParameter("Maria", 18, List.of("a", "b", "c"), "Mia")
+        ));
+        spec.usingPropertyValidation().assertCompliant(new SomeSmallParameter("Sepp", 32, List.of("a"), null));
+
+        // The invalid fixture is reported with its index, the valid ones still pass
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> spec.assertCompliant(Stream.of(
+                        new SomeSmallParameter("Sepp", 32, List.of("a"), null),
+                        new SomeSmallParameter("Sepp", 17, List.of("a"), null)
+                ))
+        ).withMessageStartingWith("1 of 2 fixtures failed").withMessageContaining("Fixture #1");
+    }
+
+    @Test
+    void valueSourcesShouldResolveSupertypes() {
+        var validParameter = new SomeConcurrentParameter(new CopyOnWriteArrayList<>(List.of("a")));
+
+        // CopyOnWriteArrayList is not registered, the values of List are converted
+        assertThatValidation().of(validParameter)
+                .usingBeanValidation()
+                .size("tags").minMax(1, 3)
+                .isCompliant();
+    }
+
+    @Test
+    void validatingCallShouldWork() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        assertThatValidation().of(validParameter)
+                .validatingCall(new ClassWithValidated(), "create", 1L)
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().of(validParameter)
+                        .validatingCall(new ClassWithoutValidated(), "create", 1L)
+                        .notBlank("name")
+                        .min("age", 18)
+                        .size("tags").minMax(1, 3)
+                        .nullable("nickname")
+                        .isCompliant()
+        ).withMessageContaining("@Validated");
+    }
+
+    @Test
+    void nestedPropertyPathsShouldWork() {
+        var validParameter = new SomeNestedParameter(
+                "Order",
+                new SomeAddress("Main Street", "Bolzano"),
+                List.of(new SomeItem("a", 1), new SomeItem("b", 2))
+        );
+
+        assertThatValidation().of(validParameter)
+                .usingBeanValidation()
+                .notBlank("name")
+                .notBlank("address.street")
+                .notValidated("address.city")
+                .min("items[1].quantity", 1)
+                .notValidated("items[1].name")
+                .isCompliant();
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().of(validParameter)
+                        .usingBeanValidation()
+                        .notBlank("name")
+                        .notBlank("address.street")
+                        .notBlank("address.city")
+                        .min("items[0].quantity", 1)
+                        .notValidated("items[0].name")
+                        .isCompliant()
+        ).withMessageContaining("address.city");
+    }
+
+    @Test
+    void nestedPropertyPaths_shouldRequireRulesForAllPropertiesOfTheNestedObjects() {
+        var validParameter = new SomeNestedParameter(
+                "Order",
+                new SomeAddress("Main Street", "Bolzano"),
+                List.of(new SomeItem("a", 1), new SomeItem("b", 2))
+        );
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> assertThatValidation().of(validParameter)
+                        .usingBeanValidation()
+                        .notBlank("name")
+                        .notBlank("address.street")
+                        .min("items[1].quantity", 1)
+                        .isCompliant()
+        ).withMessage("Not all properties have validation rules: [address.city, items[1].name]");
+    }
+
+    @Test
+    void validationListenerShouldReceiveStatisticsOfEachRule() {
+        var validParameter = new SomeSmallParameter("Sepp", 32, List.of("a"), null);
+
+        var statistics = new ConcurrentLinkedQueue<RuleStatistics>();
+        BaseValidationAssert.registerValidationListener(result -> {
+            if (result.parameterClass() == SomeSmallParameter.class) {
+                statistics.add(result);
+            }
+        });
+
+        assertThatValidation().of(validParameter)
+                .usingBeanValidation()
+                .notBlank("name")
+                .min("age", 18)
+                .size("tags").minMax(1, 3)
+                .nullable("nickname")
+                .isCompliant();
+
+        assertThat(statistics)
+                .anySatisfy(result -> {
+                    assertThat(result.property()).isEqualTo("age");
+                    assertThat(result.args()).hasSize(1);
+                    assertThat(result.valueCount()).isPositive();
+                    assertThat(result.validationTime()).isPositive();
+                });
+    }
+
     @SuppressWarnings("checkstyle:MethodLength")
     private static SomeValidParameter getSomeValidParameter() {
         return new SomeValidParameter(
@@ -960,6 +1265,9 @@ class ValidationAssertTest {
 
         public void someMethodWithoutValidParameter(Long first, Integer second, String last) {
         }
+
+        public void create(Long id, @Valid SomeSmallParameter parameter) {
+        }
     }
 
     @SuppressWarnings({"java:S1186", "unused"}) // Suppress the "empty method body" warning
@@ -981,6 +1289,93 @@ class ValidationAssertTest {
 
         public void someMethodWithoutValidParameter(Long first, Integer second, String last) {
         }
+
+        public void create(Long id, @Valid SomeSmallParameter parameter) {
+        }
+    }
+
+    public record SomeSmallParameter(
+            @NotBlank String name,
+            @Min(18) int age,
+            @NotNull @Size(min = 1, max = 3) List<String> tags,
+            @Nullable String nickname
+    ) {
+    }
+
+    @GroupSequence({SomeSequencedParameter.class, SomeSequencedParameter.Second.class})
+    public record SomeSequencedParameter(
+            @NotBlank String name,
+            @Min(value = 18, groups = Second.class) int age
+    ) {
+        public interface Second {
+        }
+    }
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = FragileValidator.class)
+    public @interface Fragile {
+        String message() default "fragile";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class FragileValidator implements ConstraintValidator<Fragile, SomeFragileParameter> {
+        @Override
+        public boolean isValid(SomeFragileParameter value, ConstraintValidatorContext context) {
+            var name = value.name();
+            if ((name == null || name.isBlank()) && value.age() < 18) {
+                throw new IllegalStateException("Cannot validate a blank name and an underage at once");
+            }
+            return true;
+        }
+    }
+
+    @Fragile
+    public record SomeFragileParameter(
+            @Nullable @NotBlank String name,
+            @Min(18) int age
+    ) {
+    }
+
+    static final class FixedValueSource implements ValueSource {
+        private final String value;
+
+        FixedValueSource(String value) {
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
+            return Stream.of((T) value);
+        }
+    }
+
+    public record SomeConcurrentParameter(
+            @NotNull @Size(min = 1, max = 3) CopyOnWriteArrayList<String> tags
+    ) {
+    }
+
+    public record SomeNestedParameter(
+            @NotBlank String name,
+            @Valid @NotNull SomeAddress address,
+            @Valid @NotNull List<SomeItem> items
+    ) {
+    }
+
+    public record SomeAddress(
+            @NotBlank String street,
+            String city
+    ) {
+    }
+
+    public record SomeItem(
+            String name,
+            @Min(1) int quantity
+    ) {
     }
 
     public abstract static class SomeBaseClass {
@@ -0,0 +1,61 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class BytecodeFingerprintTest {
+    @Test
+    void theSameClassShouldHaveTheSameHash() {
+        assertThat(BytecodeFingerprint.of(SomeClass.class))
+                .hasSize(32)
+                .isEqualTo(BytecodeFingerprint.of(SomeClass.class));
+    }
+
+    @Test
+    void differentClassesShouldHaveDifferentHashes() {
+        assertThat(BytecodeFingerprint.of(SomeClass.class)).isNotEqualTo(BytecodeFingerprint.of(OtherClass.class));
+        assertThat(BytecodeFingerprint.of(String.class)).isNotEqualTo(BytecodeFingerprint.of(Integer.class));
+    }
+
+    @Test
+    void arraysShouldHaveTheHashOfTheirComponentType() {
+        assertThat(BytecodeFingerprint.of(SomeClass[][].class)).isEqualTo(BytecodeFingerprint.of(SomeClass.class));
+    }
+
+    @Test
+    void lambdasShouldHaveTheHashOfTheirDeclaringClass() {
+        Supplier<String> lambda = () -> "lambda";
+
+        assertThat(BytecodeFingerprint.hostOf(lambda.getClass())).isEqualTo(BytecodeFingerprintTest.class);
+        assertThat(BytecodeFingerprint.of(lambda.getClass()))
+                .isEqualTo(BytecodeFingerprint.of(BytecodeFingerprintTest.class));
+        assertThat(BytecodeFingerprint.hostOf(SomeClass.class)).isNull();
+    }
+
+    @Test
+    void referencedClassesShouldBeReadFromTheConstantPool() {
+        var bytecode = BytecodeFingerprint.readBytecode(
+                SomeClass.class.getClassLoader(),
+                SomeClass.class.getName()
+        );
+
+        assertThat(BytecodeFingerprint.referencedClasses(bytecode))
+                .contains(SomeClass.class.getName(), OtherClass.class.getName(), Object.class.getName());
+    }
+
+    static final class SomeClass {
+        private final OtherClass[] others = new OtherClass[0];
+
+        int count() {
+            return others.length;
+        }
+    }
+
+    static final class OtherClass {
+    }
+}
@@ -0,0 +1,41 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Valid;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class ClassMetadataTest {
+    @Test
+    void shadowedFieldsShouldResolveToTheMostSpecificClass() {
+        var metadata = ClassMetadata.of(SomeChild.class);
+
+        // Both fields are properties, but the name refers to the field of the subclass
+        assertThat(metadata.propertyCount()).isEqualTo(3);
+        var index = metadata.indexOfOrFail("value");
+        assertThat(metadata.field(index).getDeclaringClass()).isEqualTo(SomeChild.class);
+        assertThat(metadata.propertyType("value")).isEqualTo(String.class);
+        assertThat(metadata.isValidAnnotated("value")).isFalse();
+        assertThat(metadata.isNullableAnnotated("value")).isTrue();
+
+        assertThat(metadata.propertyType("name")).isEqualTo(String.class);
+        assertThat(metadata.declaredProperties()).containsExactly("value");
+    }
+
+    @SuppressWarnings("unused")
+    static class SomeBase {
+        @Valid
+        Object value = new Object();
+
+        String name = "Sepp";
+    }
+
+    @SuppressWarnings({"unused", "java:S2387"})
+    static class SomeChild extends SomeBase {
+        @Nullable
+        String value;
+    }
+}
@@ -0,0 +1,99 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@NullMarked
+class ConstraintEdgesTest {
+    @Test
+    void numberBoundsShouldHaveEdgesInsideAndOutside() {
+        assertThat(edgesOf("age", int.class))
+                .extracting(ConstraintEdges.Edge::value, ConstraintEdges.Edge::valid)
+                .containsExactly(
+                        tuple(17, false),
+                        tuple(121, false),
+                        tuple(18, true),
+                        tuple(120, true)
+                );
+    }
+
+    @Test
+    void sizeBoundsShouldHaveEdgesInsideAndOutside() {
+        assertThat(edgesOf("tags", List.class))
+                .extracting(edge -> ((List<?>) edge.value()).size(), ConstraintEdges.Edge::valid)
+                .containsExactly(
+                        tuple(0, false),
+                        tuple(4, false),
+                        tuple(1, true),
+                        tuple(3, true)
+                );
+    }
+
+    @Test
+    void otherConstraintsShouldOnlyHaveEdgesOutside() {
+        assertThat(edgesOf("name", String.class))
+                .singleElement()
+                .satisfies(edge -> {
+                    assertThat(edge.value()).isEqualTo("x".repeat(11));
+                    assertThat(edge.valid()).isFalse();
+                });
+    }
+
+    @Test
+    void valuesOutsideOfTheTypeShouldBeOmitted() {
+        assertThat(edgesOf("level", byte.class))
+                .extracting(ConstraintEdges.Edge::value)
+                .containsExactly((byte) 127);
+    }
+
+    @Test
+    void theEdgesShouldMatchTheValidator() {
+        var validator = validator();
+        for (var property : List.of("age", "tags", "name")) {
+            var type = switch (property) {
+                case "age" -> int.class;
+                case "tags" -> List.class;
+                default -> String.class;
+            };
+            for (var edge : edgesOf(property, type)) {
+                assertThat(validator.validateValue(SomeParameter.class, property, edge.value()).isEmpty())
+                        .as("%s=%s (%s)", property, edge.value(), edge.description())
+                        .isEqualTo(edge.valid());
+            }
+        }
+    }
+
+    @Test
+    void propertiesWithoutBoundsShouldHaveNoEdges() {
+        assertThat(edgesOf("nickname", String.class)).isEmpty();
+    }
+
+    private static List<ConstraintEdges.Edge> edgesOf(String property, Class<?> type) {
+        var descriptor = validator().getConstraintsForClass(SomeParameter.class).getConstraintsForProperty(property);
+        return ConstraintEdges.of(descriptor, type);
+    }
+
+    private static Validator validator() {
+        return DefaultValidatorProvider.INSTANCE.getValidator();
+    }
+
+    public record SomeParameter(
+            @Min(18) @Max(120) int age,
+            @NotNull @Size(min = 1, max = 3) List<String> tags,
+            @NotBlank @Size(max = 10) String name,
+            @Max(Byte.MAX_VALUE) byte level,
+            String nickname
+    ) {
+    }
+}
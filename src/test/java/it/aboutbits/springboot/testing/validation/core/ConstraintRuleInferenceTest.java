@@ -0,0 +1,96 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.BlankValueSource;
+import it.aboutbits.springboot.testing.validation.source.InertValueSource;
+import it.aboutbits.springboot.testing.validation.source.LessThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.NullValueSource;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.cfg.defs.NotNullDef;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@NullMarked
+class ConstraintRuleInferenceTest {
+    @Test
+    void shouldOnlyInferTheConstraintsOfTheDefaultGroup() {
+        var rules = ConstraintRuleInference.merge(ParameterWithGroups.class, List.of(), validator());
+
+        // The constraint of the other group is ignored, so the property is not validated
+        assertThat(rules).extracting(Rule::getProperty, Rule::getValueSource).containsExactlyInAnyOrder(
+                tuple("name", BlankValueSource.class),
+                tuple("name", NullValueSource.class),
+                tuple("age", LessThanValueSource.class),
+                tuple("description", InertValueSource.class)
+        );
+    }
+
+    @Test
+    void propertiesWithContainerElementConstraintsShouldHaveNoRules() {
+        var rules = ConstraintRuleInference.merge(ParameterWithContainerElements.class, List.of(), validator());
+
+        assertThat(rules).extracting(Rule::getProperty).containsOnly("name");
+    }
+
+    @Test
+    void explicitRulesShouldReplaceTheInferredRules() {
+        var explicitRule = new Rule("name", NullValueSource.class);
+
+        var rules = ConstraintRuleInference.merge(
+                ParameterWithContainerElements.class,
+                List.of(explicitRule),
+                validator()
+        );
+
+        assertThat(rules).containsExactly(explicitRule);
+    }
+
+    @Test
+    void theRulesShouldBeInferredPerValidator() {
+        var configuration = Validation.byProvider(HibernateValidator.class).configure();
+        var mapping = configuration.createConstraintMapping();
+        mapping.type(ParameterWithGroups.class)
+                .field("description")
+                .constraint(new NotNullDef());
+
+        try (var factory = configuration.addMapping(mapping).buildValidatorFactory()) {
+            var rules = ConstraintRuleInference.merge(ParameterWithGroups.class, List.of(), factory.getValidator());
+
+            assertThat(rules).extracting(Rule::getProperty, Rule::getValueSource)
+                    .contains(tuple("description", NullValueSource.class));
+        }
+
+        assertThat(ConstraintRuleInference.merge(ParameterWithGroups.class, List.of(), validator()))
+                .extracting(Rule::getProperty, Rule::getValueSource)
+                .doesNotContain(tuple("description", NullValueSource.class));
+    }
+
+    private static Validator validator() {
+        return DefaultValidatorProvider.INSTANCE.getMutationValidator();
+    }
+
+    public interface Create {
+    }
+
+    public record ParameterWithGroups(
+            @NotBlank String name,
+            @Min(18) int age,
+            @NotNull(groups = Create.class) String description
+    ) {
+    }
+
+    public record ParameterWithContainerElements(
+            @NotBlank String name,
+            List<@NotBlank String> tags
+    ) {
+    }
+}
@@ -0,0 +1,182 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.toolbox.validation.annotation.RepeatedField;
+import it.aboutbits.springboot.toolbox.validation.annotation.ValidDateRange;
+import it.aboutbits.springboot.toolbox.validation.annotation.ValidNumericRange;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.HibernateValidator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@NullMarked
+class CrossFieldMutationTest {
+    private static final SomeParameter VALID_PARAMETER = new SomeParameter(
+            LocalDate.of(2026, 1, 1),
+            LocalDate.of(2026, 1, 31),
+            1,
+            10,
+            "secret",
+            "secret"
+    );
+
+    @Nullable
+    private ValidatorFactory validatorFactory;
+
+    @AfterEach
+    void restoreValidatorProvider() {
+        BaseValidationAssert.registerValidatorProvider(DefaultValidatorProvider.INSTANCE);
+        if (validatorFactory != null) {
+            validatorFactory.close();
+        }
+    }
+
+    @Test
+    void correctValidatorsShouldPass() {
+        assertCompliant(rules -> rules.validDateRange("from", "to"));
+        assertCompliant(rules -> rules.validDateRange("from", "to", false));
+        assertCompliant(rules -> rules.validNumericRange("min", "max"));
+        assertCompliant(rules -> rules.validNumericRange("min", "max", false));
+        assertCompliant(rules -> rules.repeatedField("password", "passwordRepeated"));
+    }
+
+    @Test
+    void aValidatorAcceptingAReversedDateRangeShouldFail() {
+        useValidator(ValidDateRange.class, AcceptingDateRangeValidator.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertCompliant(rules -> rules.validDateRange("from", "to")))
+                .withMessageContaining("to before from must be rejected by @ValidDateRange");
+    }
+
+    @Test
+    void aValidatorAcceptingAReversedNumericRangeShouldFail() {
+        useValidator(ValidNumericRange.class, AcceptingNumericRangeValidator.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertCompliant(rules -> rules.validNumericRange("min", "max")))
+                .withMessageContaining("max below min must be rejected by @ValidNumericRange");
+    }
+
+    @Test
+    void aValidatorAcceptingAMismatchedRepeatShouldFail() {
+        useValidator(RepeatedField.class, AcceptingRepeatedFieldValidator.class);
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertCompliant(rules -> rules.repeatedField("password", "passwordRepeated")))
+                .withMessageContaining("passwordRepeated not matching password must be rejected by @RepeatedField");
+    }
+
+    @Test
+    void unsupportedValuesShouldSkipTheMutation() {
+        assertThat(mutationOf(rules -> rules.validDateRange("from", "to"), LocalTime.NOON)).isEmpty();
+        assertThat(mutationOf(rules -> rules.validDateRange("from", "to"), null)).isEmpty();
+        assertThat(mutationOf(rules -> rules.validNumericRange("min", "max"), Integer.MIN_VALUE)).isEmpty();
+        assertThat(mutationOf(rules -> rules.validNumericRange("min", "max"), "1")).isEmpty();
+        assertThat(mutationOf(rules -> rules.repeatedField("password", "passwordRepeated"), 42)).isEmpty();
+    }
+
+    @Test
+    void supportedValuesShouldBeMutated() {
+        assertThat(mutationOf(rules -> rules.validDateRange("from", "to", false), LocalDate.of(2026, 1, 1)))
+                .containsExactly(LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1));
+        assertThat(mutationOf(rules -> rules.validNumericRange("min", "max"), 1)).containsExactly(0);
+        assertThat(mutationOf(rules -> rules.repeatedField("password", "passwordRepeated"), "secret"))
+                .containsExactly("secretx");
+    }
+
+    private static void assertCompliant(UnaryOperator<TestRuleBuilder> crossFieldRule) {
+        var ruleBuilder = new TestValidationAssert().of(VALID_PARAMETER)
+                .usingBeanValidation()
+                .notNull("from")
+                .notNull("to")
+                .notNull("min")
+                .notNull("max")
+                .notBlank("password")
+                .notBlank("passwordRepeated");
+
+        crossFieldRule.apply(ruleBuilder).isCompliant();
+    }
+
+    private static List<?> mutationOf(UnaryOperator<TestRuleBuilder> crossFieldRule, @Nullable Object value) {
+        var mutation = crossFieldRule.apply(new TestRuleBuilder()).getCrossFieldMutations().getFirst();
+
+        return mutation.values().apply(_ -> value).toList();
+    }
+
+    private <A extends Annotation> void useValidator(
+            Class<A> constraint,
+            Class<? extends ConstraintValidator<A, ?>> validatorClass
+    ) {
+        var configuration = Validation.byProvider(HibernateValidator.class).configure();
+        var mapping = configuration.createConstraintMapping();
+        mapping.constraintDefinition(constraint)
+                .includeExistingValidators(false)
+                .validatedBy(validatorClass);
+
+        var factory = configuration.addMapping(mapping).buildValidatorFactory();
+        validatorFactory = factory;
+
+        var validator = factory.getValidator();
+        BaseValidationAssert.registerValidatorProvider(() -> validator);
+    }
+
+    @ValidDateRange(fromDateField = "from", toDateField = "to")
+    @ValidNumericRange(lowerBoundField = "min", upperBoundField = "max")
+    @RepeatedField(originalField = "password", repeatedField = "passwordRepeated")
+    public record SomeParameter(
+            @NotNull LocalDate from,
+            @NotNull LocalDate to,
+            @NotNull Integer min,
+            @NotNull Integer max,
+            @NotBlank String password,
+            @NotBlank String passwordRepeated
+    ) {
+    }
+
+    public static final class AcceptingDateRangeValidator implements ConstraintValidator<ValidDateRange, Object> {
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    public static final class AcceptingNumericRangeValidator
+            implements ConstraintValidator<ValidNumericRange, Object> {
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    public static final class AcceptingRepeatedFieldValidator implements ConstraintValidator<RepeatedField, Object> {
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    private static final class TestValidationAssert extends BaseValidationAssert<TestRuleBuilder> {
+        private TestValidationAssert() {
+            super(new TestRuleBuilder());
+        }
+    }
+
+    private static final class TestRuleBuilder extends BaseRuleBuilder<TestRuleBuilder> {
+    }
+}
@@ -0,0 +1,65 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.spring.EnableBeanAccessor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.NotBlank;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class DefaultValidatorProviderTest {
+    private static final String NOT_BLANK_TEMPLATE = "{jakarta.validation.constraints.NotBlank.message}";
+
+    @Test
+    void shouldUseTheValidatorFactoryOfTheApplicationContextWhileItIsActive() {
+        var provider = DefaultValidatorProvider.INSTANCE;
+
+        try (var context = new AnnotationConfigApplicationContext(SomeValidationConfiguration.class)) {
+            var springFactory = context.getBean(LocalValidatorFactoryBean.class);
+
+            assertThat(provider.getValidatorFactory()).isSameAs(springFactory);
+            assertThat(provider.getValidator().validate(new SomeParameter(" "))).hasSize(1);
+        }
+
+        // The closed context (e.g. after @DirtiesContext) must not break the validation tests that follow
+        var fallbackFactory = provider.getValidatorFactory();
+        assertThat(fallbackFactory).isNotInstanceOf(LocalValidatorFactoryBean.class);
+        assertThat(provider.getValidatorFactory()).isSameAs(fallbackFactory);
+        assertThat(provider.getValidator().validate(new SomeParameter(" "))).hasSize(1);
+    }
+
+    @Test
+    void mutationValidatorShouldNotInterpolateMessages() {
+        var provider = DefaultValidatorProvider.INSTANCE;
+
+        var violation = provider.getMutationValidator().validate(new SomeParameter(" ")).iterator().next();
+        assertThat(violation.getMessage()).isEqualTo(NOT_BLANK_TEMPLATE);
+        assertThat(violation.getPropertyPath()).hasToString("name");
+
+        // The validator reporting an invalid parameter still interpolates the messages
+        assertThat(provider.getValidator().validate(new SomeParameter(" ")))
+                .extracting(ConstraintViolation::getMessage)
+                .singleElement()
+                .isNotEqualTo(NOT_BLANK_TEMPLATE);
+
+        assertThat(provider.getMutationValidator()).isSameAs(provider.getMutationValidator());
+    }
+
+    public record SomeParameter(@NotBlank String name) {
+    }
+
+    @Configuration
+    @EnableBeanAccessor
+    static class SomeValidationConfiguration {
+        @Bean
+        LocalValidatorFactoryBean validatorFactory() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+}
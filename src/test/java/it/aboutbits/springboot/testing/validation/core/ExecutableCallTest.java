@@ -0,0 +1,65 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.annotation.Validated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class ExecutableCallTest {
+    @Test
+    void shouldValidateWithTheGroupsOfTheClass() {
+        var call = ExecutableCall.resolve(new ServiceWithGroup(), "create", SomeParameter.class, new Object[0]);
+
+        assertThat(call.getViolatingProperties(validator(), new SomeParameter(" ", null)))
+                .containsExactly("name");
+    }
+
+    @Test
+    void shouldPreferTheGroupsOfTheMethod() {
+        var call = ExecutableCall.resolve(new ServiceWithGroup(), "update", SomeParameter.class, new Object[]{1L});
+
+        assertThat(call.getViolatingProperties(validator(), new SomeParameter(" ", null)))
+                .containsExactlyInAnyOrder("name", "description");
+    }
+
+    @Test
+    void nullLeadingArgumentsShouldBeASingleNullArgument() {
+        var call = ExecutableCall.resolve(new ServiceWithGroup(), "update", SomeParameter.class, null);
+
+        assertThat(call.leadingArguments()).containsExactly((Object) null);
+        assertThat(call.getViolatingProperties(validator(), new SomeParameter("Sepp", "Text"))).isEmpty();
+    }
+
+    private static Validator validator() {
+        return DefaultValidatorProvider.INSTANCE.getValidator();
+    }
+
+    public interface Create {
+    }
+
+    public record SomeParameter(
+            @NotBlank(groups = Create.class) String name,
+            @Nullable @NotNull String description
+    ) {
+    }
+
+    @Validated(Create.class)
+    public static class ServiceWithGroup {
+        public void create(@Valid SomeParameter parameter) {
+            // Never called, only the arguments are validated
+        }
+
+        @Validated({Create.class, Default.class})
+        public void update(@Nullable Long id, @Valid SomeParameter parameter) {
+            // Never called, only the arguments are validated
+        }
+    }
+}
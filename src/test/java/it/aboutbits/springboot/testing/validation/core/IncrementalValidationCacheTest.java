@@ -0,0 +1,156 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.BlankValueSource;
+import jakarta.validation.constraints.NotBlank;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class IncrementalValidationCacheTest {
+    @TempDir
+    @SuppressWarnings("NullAway.Init")
+    Path directory;
+
+    @Test
+    void equalParametersShouldHaveTheSameKey() {
+        var key = IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a"))));
+
+        assertThat(key)
+                .isNotNull()
+                .isEqualTo(IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a")))));
+    }
+
+    @Test
+    void changedParametersShouldHaveAnotherKey() {
+        var key = IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a"))));
+
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Maria", List.of("a")))))
+                .isNotEqualTo(key);
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("b")))))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    void parametersShouldBeHashedByTheirPropertiesInsteadOfToString() {
+        var key = IncrementalValidationCache.computeKey(parameterOf(new ParameterWithToString("Sepp")));
+
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(new ParameterWithToString("Maria"))))
+                .isNotNull()
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    void parametersWithValuesThatCannotBeHashedShouldNotBeCached() {
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(new ParameterWithObject("Sepp", new Object()))))
+                .isNull();
+    }
+
+    @Test
+    void scopedRegistrationsShouldChangeTheKey() {
+        var key = IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a"))));
+
+        try (var _ = RegistryScope.open()) {
+            ValueSourceRegistry.registerSupplier(BlankValueSource.class, OtherBlankValueSource::new);
+
+            assertThat(IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a")))))
+                    .isNotEqualTo(key);
+        }
+    }
+
+    @Test
+    void functionCallsAndFuzzedTestsShouldNeverBeCached() {
+        var parameter = new SomeParameter("Sepp", List.of("a"));
+
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(
+                parameter,
+                ValidationMode.FUNCTION_CALL,
+                MutationProfile.STANDARD
+        ))).isNull();
+        assertThat(IncrementalValidationCache.computeKey(parameterOf(
+                parameter,
+                ValidationMode.BEAN_VALIDATION,
+                MutationProfile.FUZZ
+        ))).isNull();
+    }
+
+    @Test
+    void passedTestsShouldBeFoundUntilTheyArePruned() throws IOException {
+        var key = IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Sepp", List.of("a"))));
+        var otherKey = IncrementalValidationCache.computeKey(parameterOf(new SomeParameter("Maria", List.of("a"))));
+        assertThat(key).isNotNull();
+        assertThat(otherKey).isNotNull();
+
+        IncrementalValidationCache.markPassed(directory, key, SomeParameter.class);
+
+        assertThat(IncrementalValidationCache.hasPassed(directory, key)).isTrue();
+        assertThat(IncrementalValidationCache.hasPassed(directory, otherKey)).isFalse();
+
+        IncrementalValidationCache.markPassed(directory, otherKey, SomeParameter.class);
+        Files.setLastModifiedTime(directory.resolve(key), FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+
+        assertThat(IncrementalValidationCache.prune(directory, Duration.ofDays(7))).isEqualTo(1);
+        assertThat(IncrementalValidationCache.hasPassed(directory, key)).isFalse();
+        assertThat(IncrementalValidationCache.hasPassed(directory, otherKey)).isTrue();
+    }
+
+    private static <P> RuleValidator.AssertionParameter<P> parameterOf(P parameter) {
+        return parameterOf(parameter, ValidationMode.BEAN_VALIDATION, MutationProfile.STANDARD);
+    }
+
+    private static <P> RuleValidator.AssertionParameter<P> parameterOf(
+            P parameter,
+            ValidationMode validationMode,
+            MutationProfile profile
+    ) {
+        var validatorProvider = DefaultValidatorProvider.INSTANCE;
+        return new RuleValidator.AssertionParameter<>(
+                parameter,
+                null,
+                null,
+                validationMode,
+                false,
+                new MutationSettings(profile, null),
+                List.of(new Rule("name", BlankValueSource.class)),
+                List.of(),
+                List.of(),
+                Set.of(),
+                validatorProvider.getValidator(),
+                validatorProvider.getMutationValidator(),
+                List.of()
+        );
+    }
+
+    public record SomeParameter(@NotBlank String name, List<String> tags) {
+    }
+
+    public record ParameterWithToString(@NotBlank String name) {
+        @Override
+        public String toString() {
+            return "ParameterWithToString";
+        }
+    }
+
+    public record ParameterWithObject(@NotBlank String name, Object value) {
+    }
+
+    static final class OtherBlankValueSource extends BlankValueSource {
+        @Override
+        public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
+            return Stream.empty();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@NullMarked
+class MutationSettingsTest {
+    @AfterEach
+    void clearSystemProperties() {
+        System.clearProperty(MutationProfile.PROFILE_PROPERTY);
+        System.clearProperty(MutationProfile.BUDGET_PROPERTY);
+    }
+
+    @Test
+    void shouldDefaultToTheStandardProfile() {
+        assertThat(MutationSettings.resolve(null)).isEqualTo(new MutationSettings(MutationProfile.STANDARD, null));
+    }
+
+    @Test
+    void invalidSystemPropertiesShouldBeReported() {
+        System.setProperty(MutationProfile.PROFILE_PROPERTY, "thorough");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MutationSettings.resolve(null))
+                .withMessageContaining("-Dvalidation.profile: thorough")
+                .withMessageContaining("smoke");
+
+        System.setProperty(MutationProfile.PROFILE_PROPERTY, "smoke");
+        System.setProperty(MutationProfile.BUDGET_PROPERTY, "10s");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MutationSettings.resolve(null))
+                .withMessageContaining("-Dvalidation.profile.budget: 10s");
+    }
+
+    @Nested
+    @ValidationProfile(value = MutationProfile.EXHAUSTIVE, budgetMillis = 500)
+    class WithAnnotation {
+        @Test
+        void shouldUseTheAnnotationOfTheTestClass() {
+            assertThat(MutationSettings.resolve(null))
+                    .isEqualTo(new MutationSettings(MutationProfile.EXHAUSTIVE, Duration.ofMillis(500)));
+        }
+
+        @Test
+        void theSystemPropertiesShouldWinOverTheAnnotation() {
+            System.setProperty(MutationProfile.PROFILE_PROPERTY, "smoke");
+
+            assertThat(MutationSettings.resolve(null))
+                    .isEqualTo(new MutationSettings(MutationProfile.SMOKE, Duration.ofMillis(500)));
+
+            System.setProperty(MutationProfile.BUDGET_PROPERTY, "PT10S");
+
+            assertThat(MutationSettings.resolve(null))
+                    .isEqualTo(new MutationSettings(MutationProfile.SMOKE, Duration.ofSeconds(10)));
+        }
+
+        @Test
+        void explicitSettingsShouldWinOverEverything() {
+            System.setProperty(MutationProfile.PROFILE_PROPERTY, "smoke");
+            var explicitSettings = new MutationSettings(MutationProfile.FUZZ, null);
+
+            assertThat(MutationSettings.resolve(explicitSettings)).isSameAs(explicitSettings);
+        }
+    }
+}
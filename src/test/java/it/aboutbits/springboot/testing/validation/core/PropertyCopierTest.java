@@ -0,0 +1,65 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class PropertyCopierTest {
+    @Test
+    void classesWithOnlyANoArgsConstructorShouldBeCopiedThroughTheSetters() {
+        var metadata = ClassMetadata.of(SomeBean.class);
+        assertThat(metadata.canonicalConstructor()).isNull();
+        assertThat(metadata.noArgsConstructor()).isNotNull();
+
+        var original = new SomeBean();
+        original.name = "Sepp";
+        original.age = 32;
+        original.setNickname("Seppl");
+
+        var copy = PropertyCopier.of(SomeBean.class).withProperty(original, metadata.indexOfOrFail("age"), 17);
+
+        assertThat(copy).isNotSameAs(original);
+        assertThat(copy.name).isEqualTo("Sepp");
+        assertThat(copy.age).isEqualTo(17);
+        assertThat(copy.getNickname()).isEqualTo("Seppl");
+
+        // The original is never modified
+        assertThat(original.age).isEqualTo(32);
+    }
+
+    @Test
+    void theSettersShouldAcceptNull() {
+        var metadata = ClassMetadata.of(SomeBean.class);
+        var original = new SomeBean();
+        original.setNickname("Seppl");
+
+        var copy = PropertyCopier.of(SomeBean.class).withProperty(original, metadata.indexOfOrFail("nickname"), null);
+
+        assertThat(copy.getNickname()).isNull();
+        assertThat(original.getNickname()).isEqualTo("Seppl");
+    }
+
+    @SuppressWarnings("unused")
+    static class SomeBase {
+        @Nullable
+        private String nickname;
+
+        @Nullable
+        String getNickname() {
+            return nickname;
+        }
+
+        void setNickname(@Nullable String nickname) {
+            this.nickname = nickname;
+        }
+    }
+
+    static final class SomeBean extends SomeBase {
+        String name = "";
+
+        int age;
+    }
+}
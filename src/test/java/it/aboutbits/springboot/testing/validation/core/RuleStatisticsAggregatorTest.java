@@ -0,0 +1,76 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.LessThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.NullValueSource;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class RuleStatisticsAggregatorTest {
+    @Test
+    void rulesWithTheSameKeyShouldBeSummedUp() {
+        var aggregator = new RuleStatisticsAggregator();
+
+        aggregator.add(statistics(NullValueSource.class, List.of(), 1, 100));
+        aggregator.add(statistics(NullValueSource.class, List.of(), 1, 200));
+
+        assertThat(aggregator.snapshot()).singleElement().satisfies(rule -> {
+            assertThat(rule.key()).isEqualTo(new RuleStatisticsAggregator.Key(
+                    String.class,
+                    "value",
+                    NullValueSource.class,
+                    List.of()
+            ));
+            assertThat(rule.runs()).isEqualTo(2);
+            assertThat(rule.values()).isEqualTo(2);
+            assertThat(rule.generationNanos()).isEqualTo(300);
+            assertThat(rule.copyNanos()).isEqualTo(600);
+            assertThat(rule.validationNanos()).isEqualTo(900);
+            assertThat(rule.totalNanos()).isEqualTo(1_800);
+        });
+    }
+
+    @Test
+    void rulesWithOtherArgumentsShouldBeKeptApartAndTheMostExpensiveFirst() {
+        var aggregator = new RuleStatisticsAggregator();
+
+        aggregator.add(statistics(LessThanValueSource.class, List.of(18L), 2, 100));
+        aggregator.add(statistics(LessThanValueSource.class, List.of(21L), 2, 500));
+
+        assertThat(aggregator.snapshot())
+                .extracting(rule -> rule.key().args())
+                .containsExactly(List.of("21"), List.of("18"));
+    }
+
+    @Test
+    void aNewAggregatorShouldBeEmpty() {
+        var aggregator = new RuleStatisticsAggregator();
+
+        assertThat(aggregator.isEmpty()).isTrue();
+        assertThat(aggregator.snapshot()).isEmpty();
+    }
+
+    private static RuleStatistics statistics(
+            Class<? extends ValueSource> valueSource,
+            List<@Nullable Object> args,
+            long valueCount,
+            long nanos
+    ) {
+        return new RuleStatistics(
+                String.class,
+                "value",
+                valueSource,
+                args,
+                valueCount,
+                Duration.ofNanos(nanos),
+                Duration.ofNanos(nanos * 2),
+                Duration.ofNanos(nanos * 3)
+        );
+    }
+}
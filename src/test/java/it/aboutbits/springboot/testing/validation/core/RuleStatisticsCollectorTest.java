@@ -0,0 +1,71 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.BiggerThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.LessThanValueSource;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class RuleStatisticsCollectorTest {
+    private static final SomeParameter PARAMETER = new SomeParameter(32, 50);
+
+    @Test
+    void theValuesOfARuleShouldNotDependOnTheOrderOfTheRules() {
+        var rules = List.of(
+                new Rule("age", LessThanValueSource.class, 18L),
+                new Rule("score", BiggerThanValueSource.class, 100L)
+        );
+
+        var values = generateValues(rules);
+        var reversedValues = generateValues(rules.reversed());
+
+        assertThat(reversedValues).isEqualTo(values);
+        // Not only the boundaries, but also the random values are the same
+        assertThat(values.get("age")).hasSizeGreaterThan(2);
+    }
+
+    @Test
+    void additionalRoundsShouldOnlyProduceNewValues() {
+        var plan = ValidationPlan.of(
+                SomeParameter.class,
+                List.of(new Rule("age", LessThanValueSource.class, 18L)),
+                Set.of(),
+                DefaultValidatorProvider.INSTANCE.getMutationValidator()
+        );
+        var collector = new RuleStatisticsCollector(plan.rules().getFirst());
+
+        var firstRound = collector.generateValues(plan, PARAMETER, MutationProfile.EXHAUSTIVE, 0);
+        var secondRound = collector.generateValues(plan, PARAMETER, MutationProfile.EXHAUSTIVE, 1);
+
+        assertThat(secondRound).doesNotContainAnyElementsOf(firstRound);
+    }
+
+    private static Map<String, List<?>> generateValues(List<Rule> rules) {
+        var plan = ValidationPlan.of(
+                SomeParameter.class,
+                rules,
+                Set.of(),
+                DefaultValidatorProvider.INSTANCE.getMutationValidator()
+        );
+
+        var values = new HashMap<String, List<?>>();
+        for (var rule : plan.rules()) {
+            // Consuming the random of the thread in between must not change the values of the next rule
+            SeededRandom.current().nextLong();
+
+            var collector = new RuleStatisticsCollector(rule);
+            values.put(rule.property(), collector.generateValues(plan, PARAMETER, MutationProfile.STANDARD, 0));
+        }
+        return values;
+    }
+
+    public record SomeParameter(long age, long score) {
+    }
+}
@@ -0,0 +1,102 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+@NullMarked
+class RuleValidatorTest {
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    @Test
+    void propertyValidationShouldCascadeIntoValidProperties() {
+        var ruleBuilder = new TestValidationAssert().of(new SomeParameter(new Period(FROM, TO)))
+                .usingPropertyValidation()
+                .validBean("period");
+        ruleBuilder.addRule(new Rule("period", ReversedPeriodValueSource.class));
+
+        assertThatNoException().isThrownBy(ruleBuilder::isCompliant);
+    }
+
+    @Test
+    void propertyValidationShouldFailIfTheNestedBeanAcceptsTheMutation() {
+        var ruleBuilder = new TestValidationAssert().of(new ParameterWithUncheckedPeriod(new UncheckedPeriod(FROM, TO)))
+                .usingPropertyValidation()
+                .validBean("period");
+        ruleBuilder.addRule(new Rule("period", ReversedPeriodValueSource.class));
+
+        assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(ruleBuilder::isCompliant)
+                .withMessageContaining("Validation failed for property: period");
+    }
+
+    public record SomeParameter(@NotNull @Valid Period period) {
+    }
+
+    @OrderedPeriod
+    public record Period(LocalDate from, LocalDate to) {
+    }
+
+    public record ParameterWithUncheckedPeriod(@NotNull @Valid UncheckedPeriod period) {
+    }
+
+    public record UncheckedPeriod(LocalDate from, LocalDate to) {
+    }
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = OrderedPeriodValidator.class)
+    public @interface OrderedPeriod {
+        String message() default "to must not be before from";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class OrderedPeriodValidator implements ConstraintValidator<OrderedPeriod, Period> {
+        @Override
+        public boolean isValid(Period value, ConstraintValidatorContext context) {
+            return !value.to().isBefore(value.from());
+        }
+    }
+
+    // Produces a period whose to-date is before its from-date, which only the nested class-level constraint rejects
+    public static final class ReversedPeriodValueSource implements ValueSource {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
+            if (propertyClass == Period.class) {
+                return Stream.of((T) new Period(TO, FROM));
+            }
+            return Stream.of((T) new UncheckedPeriod(TO, FROM));
+        }
+    }
+
+    private static final class TestValidationAssert extends BaseValidationAssert<TestRuleBuilder> {
+        private TestValidationAssert() {
+            super(new TestRuleBuilder());
+        }
+    }
+
+    private static final class TestRuleBuilder extends BaseRuleBuilder<TestRuleBuilder> {
+    }
+}
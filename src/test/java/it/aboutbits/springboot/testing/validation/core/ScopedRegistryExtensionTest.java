@@ -0,0 +1,147 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+@NullMarked
+class ScopedRegistryExtensionTest {
+    // Shared by the test classes below, which are only run by the engine test kit
+    private static final ScopedRegistry<String, String> REGISTRY = new ScopedRegistry<>();
+
+    private static final int REPETITIONS = 50;
+
+    @Test
+    void scopesShouldBeNestedAndDiscardedOnClose() {
+        var registry = new ScopedRegistry<String, String>();
+        registry.registerGlobally("key", "global");
+
+        try (var _ = RegistryScope.open()) {
+            registry.register("key", "outer");
+            registry.register("other", "outer");
+
+            try (var _ = RegistryScope.open()) {
+                registry.register("key", "inner");
+
+                assertThat(registry.get("key")).isEqualTo("inner");
+                assertThat(registry.get("other")).isEqualTo("outer");
+                assertThat(registry.snapshot()).containsEntry("key", "inner").containsEntry("other", "outer");
+            }
+
+            assertThat(registry.get("key")).isEqualTo("outer");
+        }
+
+        assertThat(registry.get("key")).isEqualTo("global");
+        assertThat(registry.get("other")).isNull();
+        assertThat(RegistryScope.current()).isNull();
+    }
+
+    @Test
+    void closingOnAnotherThreadShouldFail() {
+        var scope = RegistryScope.open();
+        try {
+            assertThatExceptionOfType(CompletionException.class)
+                    .isThrownBy(() -> CompletableFuture.runAsync(scope::close).join())
+                    .withCauseInstanceOf(IllegalStateException.class);
+        } finally {
+            scope.close();
+        }
+
+        assertThat(RegistryScope.current()).isNull();
+    }
+
+    @Test
+    void closingBeforeNestedScopesShouldFail() {
+        var outer = RegistryScope.open();
+        var inner = RegistryScope.open();
+        try {
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(outer::close);
+        } finally {
+            inner.close();
+            outer.close();
+        }
+    }
+
+    @Test
+    void extensionShouldIsolateTestClassesRunningInParallel() {
+        EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(FirstScopedTests.class), selectClass(SecondScopedTests.class))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.started(3 * REPETITIONS).succeeded(3 * REPETITIONS));
+
+        // Nothing leaked into the global entries or the scope of this thread
+        assertThat(REGISTRY.snapshot()).isEmpty();
+        assertThat(RegistryScope.current()).isNull();
+    }
+
+    private static void assertThatOnlyOwnEntriesAreVisible(String owner) throws InterruptedException {
+        assertThat(REGISTRY.get("test")).isNull();
+
+        REGISTRY.register("test", owner);
+        // Give the other worker the chance to run a test in between
+        Thread.sleep(1);
+
+        assertThat(REGISTRY.get("test")).isEqualTo(owner);
+    }
+
+    @ExtendWith(ScopedRegistryExtension.class)
+    static class FirstScopedTests {
+        @BeforeAll
+        static void registerClassEntry() {
+            REGISTRY.register("class", "first");
+        }
+
+        @RepeatedTest(REPETITIONS)
+        void shouldOnlySeeOwnEntries() throws InterruptedException {
+            assertThat(REGISTRY.get("class")).isEqualTo("first");
+            assertThatOnlyOwnEntriesAreVisible("first");
+        }
+
+        @Nested
+        class NestedScopedTests {
+            @BeforeAll
+            static void registerNestedClassEntry() {
+                REGISTRY.register("nested", "first");
+            }
+
+            @RepeatedTest(REPETITIONS)
+            void shouldSeeEntriesOfOuterClass() throws InterruptedException {
+                assertThat(REGISTRY.get("class")).isEqualTo("first");
+                assertThat(REGISTRY.get("nested")).isEqualTo("first");
+                assertThatOnlyOwnEntriesAreVisible("nested");
+            }
+        }
+    }
+
+    @ExtendWith(ScopedRegistryExtension.class)
+    static class SecondScopedTests {
+        @BeforeAll
+        static void registerClassEntry() {
+            REGISTRY.register("class", "second");
+        }
+
+        @RepeatedTest(REPETITIONS)
+        void shouldOnlySeeOwnEntries() throws InterruptedException {
+            assertThat(REGISTRY.get("class")).isEqualTo("second");
+            assertThat(REGISTRY.get("nested")).isNull();
+            assertThatOnlyOwnEntriesAreVisible("second");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.SequencedCollection;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@NullMarked
+class TypeRegistryTest {
+    private static final List<String> VALUE = List.of("a", "b");
+
+    @Test
+    void valuesOfTheTypeItselfShouldBeReturnedUnchanged() {
+        var registry = registryOf(List.class);
+
+        assertThat(valuesOf(registry, List.class)).singleElement().isSameAs(VALUE);
+    }
+
+    @Test
+    void valuesOfASupertypeThatAreInstancesOfTheTypeShouldBePassedThrough() {
+        var registry = registryOf(Collection.class);
+
+        assertThat(valuesOf(registry, SequencedCollection.class)).singleElement().isSameAs(VALUE);
+    }
+
+    @Test
+    void valuesOfASupertypeShouldBeConvertedUsingTheMostSpecificConstructor() {
+        var registry = registryOf(Collection.class);
+
+        assertThat(valuesOf(registry, ListHolder.class))
+                .singleElement()
+                .isInstanceOfSatisfying(
+                        ListHolder.class,
+                        holder -> assertThat(holder.constructor()).isEqualTo("List")
+                );
+    }
+
+    @Test
+    void ambiguousConstructorsShouldNotBeUsed() {
+        var registry = registryOf(Object.class);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> valuesOf(registry, AmbiguousHolder.class))
+                .withMessageContaining("register the type explicitly");
+    }
+
+    private static TypeRegistry<Supplier<Stream<?>>> registryOf(Class<?> type) {
+        var registry = new TypeRegistry<Supplier<Stream<?>>>();
+        registry.registerGlobally(type, () -> Stream.of(VALUE));
+        return registry;
+    }
+
+    private static <T> List<?> valuesOf(TypeRegistry<Supplier<Stream<?>>> registry, Class<T> type) {
+        var values = registry.values(type, Supplier::get);
+        if (values == null) {
+            throw new AssertionError("No values for " + type.getName());
+        }
+        return values.toList();
+    }
+
+    public static final class ListHolder extends ArrayList<Object> {
+        private final String constructor;
+
+        public ListHolder(Object value) {
+            this.constructor = "Object";
+        }
+
+        public ListHolder(Collection<?> value) {
+            super(value);
+            this.constructor = "Collection";
+        }
+
+        public ListHolder(List<?> value) {
+            super(value);
+            this.constructor = "List";
+        }
+
+        String constructor() {
+            return constructor;
+        }
+    }
+
+    public static final class AmbiguousHolder {
+        public AmbiguousHolder(List<?> value) {
+        }
+
+        public AmbiguousHolder(RandomAccess value) {
+        }
+    }
+}
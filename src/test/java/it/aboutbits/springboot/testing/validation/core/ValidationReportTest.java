@@ -0,0 +1,129 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import it.aboutbits.springboot.testing.validation.source.BlankValueSource;
+import it.aboutbits.springboot.testing.validation.source.LessThanValueSource;
+import it.aboutbits.springboot.testing.validation.source.NullValueSource;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class ValidationReportTest {
+    @TempDir
+    @SuppressWarnings("NullAway.Init")
+    Path directory;
+
+    @Test
+    void shouldWriteTheStatisticsOfAllRules() throws IOException {
+        var file = directory.resolve("reports/validation-report.json");
+        var report = new ValidationReport(file);
+
+        report.ruleChecked(statistics(SomeParameter.class, "name", NullValueSource.class, List.of(), 1, 100));
+        report.ruleChecked(statistics(SomeParameter.class, "name", BlankValueSource.class, List.of(), 3, 200));
+        report.ruleChecked(statistics(SomeParameter.class, "age", LessThanValueSource.class, List.of(18L), 2, 300));
+        report.ruleChecked(statistics(SomeParameter.class, "age", LessThanValueSource.class, List.of(18L), 2, 300));
+        report.ruleChecked(statistics(OtherParameter.class, "value", NullValueSource.class, List.of(), 1, 5_000));
+        report.write();
+
+        var json = read(file);
+        assertThat(json).containsEntry("mutations", 9).containsEntry("totalMicros", 5_900);
+
+        // The most expensive class first
+        var classes = list(json, "classes");
+        assertThat(classes).extracting(parameterClass -> parameterClass.get("parameterClass")).containsExactly(
+                OtherParameter.class.getName(),
+                SomeParameter.class.getName()
+        );
+
+        var someParameter = classes.get(1);
+        assertThat(someParameter)
+                .containsEntry("runs", 2)
+                .containsEntry("mutations", 8)
+                .containsEntry("notExercisedProperties", List.of("nickname"));
+
+        // The properties in declaration order, including the ones without rules
+        var properties = list(someParameter, "properties");
+        assertThat(properties).extracting(property -> property.get("property"))
+                .containsExactly("name", "age", "nickname");
+
+        var name = properties.get(0);
+        assertThat(name).containsEntry("exercised", true).containsEntry("mutations", 4);
+        assertThat(name.get("constraints")).asString().contains("NotBlank");
+        assertThat(list(name, "rules")).extracting(rule -> rule.get("valueSource"))
+                .containsExactly("BlankValueSource", "NullValueSource");
+
+        var age = list(properties.get(1), "rules").getFirst();
+        assertThat(age)
+                .containsEntry("path", "age")
+                .containsEntry("args", List.of("18"))
+                .containsEntry("runs", 2)
+                .containsEntry("mutations", 4)
+                .containsEntry("validationMicros", 600);
+
+        var nickname = properties.get(2);
+        assertThat(nickname)
+                .containsEntry("exercised", false)
+                .containsEntry("constraints", List.of())
+                .containsEntry("rules", List.of());
+    }
+
+    @Test
+    void shouldNotWriteAReportWithoutStatistics() {
+        var file = directory.resolve("validation-report.json");
+
+        new ValidationReport(file).write();
+
+        assertThat(file).doesNotExist();
+    }
+
+    private static RuleStatistics statistics(
+            Class<?> parameterClass,
+            String property,
+            Class<? extends ValueSource> valueSource,
+            List<@Nullable Object> args,
+            long valueCount,
+            long validationMicros
+    ) {
+        return new RuleStatistics(
+                parameterClass,
+                property,
+                valueSource,
+                args,
+                valueCount,
+                Duration.ZERO,
+                Duration.ZERO,
+                Duration.ofNanos(validationMicros * 1_000)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> read(Path file) throws IOException {
+        return JsonMapper.builder().build().readValue(Files.readString(file), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Map<String, Object> json, String key) {
+        return (List<Map<String, Object>>) Objects.requireNonNull(json.get(key));
+    }
+
+    public record SomeParameter(@NotBlank String name, @Min(18) int age, @Nullable String nickname) {
+    }
+
+    public record OtherParameter(@NotNull String value) {
+    }
+}
@@ -0,0 +1,45 @@
+package it.aboutbits.springboot.testing.validation.core;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NullMarked
+class ValueSourceRegistryTest {
+    @Test
+    void registrationsShouldOnlyApplyToTheirScope() {
+        var singleton = ValueSourceRegistry.get(ConstantValueSource.class);
+        assertThat(singleton).isSameAs(ValueSourceRegistry.get(ConstantValueSource.class));
+
+        var scopedInstance = new ConstantValueSource();
+        try (var _ = RegistryScope.open()) {
+            ValueSourceRegistry.registerInstance(scopedInstance);
+
+            assertThat(ValueSourceRegistry.get(ConstantValueSource.class)).isSameAs(scopedInstance);
+        }
+
+        assertThat(ValueSourceRegistry.get(ConstantValueSource.class)).isSameAs(singleton);
+    }
+
+    @Test
+    void suppliersShouldCreateAnInstanceForEachRule() {
+        try (var _ = RegistryScope.open()) {
+            ValueSourceRegistry.registerSupplier(ConstantValueSource.class, ConstantValueSource::new);
+
+            assertThat(ValueSourceRegistry.get(ConstantValueSource.class))
+                    .isNotSameAs(ValueSourceRegistry.get(ConstantValueSource.class));
+        }
+    }
+
+    static final class ConstantValueSource implements ValueSource {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<@Nullable T> values(Class<T> propertyClass, Object... args) {
+            return Stream.of((T) "constant");
+        }
+    }
+}
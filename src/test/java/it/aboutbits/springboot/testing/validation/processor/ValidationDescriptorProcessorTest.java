@@ -0,0 +1,198 @@
+package it.aboutbits.springboot.testing.validation.processor;
+
+import it.aboutbits.springboot.testing.validation.core.BaseRuleBuilder;
+import it.aboutbits.springboot.testing.validation.core.BaseValidationAssert;
+import it.aboutbits.springboot.testing.validation.core.ValidationDescriptor;
+import jakarta.validation.constraints.NotBlank;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The test compilation of this library uses an explicit annotation processor path, which cannot contain the processor
+ * of the library itself. Therefore, the sample records are compiled with the processor in the tests.
+ */
+@NullMarked
+class ValidationDescriptorProcessorTest {
+    private static final String SAMPLE_PARAMETER = """
+            package sample;
+
+            import it.aboutbits.springboot.testing.validation.processor.GenerateValidationDescriptor;
+            import jakarta.validation.constraints.Min;
+            import jakarta.validation.constraints.NotBlank;
+            import org.jspecify.annotations.Nullable;
+
+            @GenerateValidationDescriptor
+            public record SampleParameter(@NotBlank String name, @Min(1) int age, @Nullable String nickname) {
+            }
+            """;
+
+    private static final String SAMPLE_TEST = """
+            package sample;
+
+            import it.aboutbits.springboot.testing.validation.processor.GenerateValidationDescriptor;
+            import jakarta.validation.Valid;
+
+            @GenerateValidationDescriptor({SampleTest.NestedParameter.class, SampleParameter.class})
+            public class SampleTest {
+                public record NestedParameter(@Valid SampleParameter sample) {
+                }
+            }
+            """;
+
+    @TempDir
+    @SuppressWarnings("NullAway.Init")
+    Path directory;
+
+    @Test
+    void shouldGenerateDescriptorsForTheListedRecords() throws Exception {
+        var result = compile(Map.of("SampleParameter", SAMPLE_PARAMETER, "SampleTest", SAMPLE_TEST));
+        assertThat(result.errors()).isEmpty();
+
+        var descriptorSource = Files.readString(
+                directory.resolve("generated/sample/SampleParameter_ValidationDescriptor.java")
+        );
+        assertThat(descriptorSource)
+                .contains("public final class SampleParameter_ValidationDescriptor implements ")
+                .contains("ValidationDescriptor<sample.SampleParameter>")
+                .contains("PROPERTIES = java.util.List.of(\"name\", \"age\", \"nickname\")")
+                .contains("List.of(java.lang.String.class, int.class, java.lang.String.class)")
+                .contains("VALID = {false, false, false}")
+                .contains("NULLABLE = {false, false, true}")
+                .contains("case 1 -> new sample.SampleParameter(original.name(), (java.lang.Integer) value, ");
+
+        var nestedDescriptorSource = Files.readString(
+                directory.resolve("generated/sample/SampleTest_NestedParameter_ValidationDescriptor.java")
+        );
+        assertThat(nestedDescriptorSource)
+                .contains("ValidationDescriptor<sample.SampleTest.NestedParameter>")
+                .contains("VALID = {true}");
+    }
+
+    @Test
+    void generatedDescriptorShouldCopyTheRecord() throws Exception {
+        var result = compile(Map.of("SampleParameter", SAMPLE_PARAMETER));
+        assertThat(result.errors()).isEmpty();
+
+        var classes = new URL[]{result.classes().toUri().toURL()};
+        try (var classLoader = new URLClassLoader(classes, getClass().getClassLoader())) {
+            var recordClass = classLoader.loadClass("sample.SampleParameter");
+            var constructor = recordClass.getConstructor(String.class, int.class, String.class);
+            var parameter = constructor.newInstance("Alice", 30, null);
+
+            @SuppressWarnings("unchecked")
+            var descriptor = (ValidationDescriptor<Object>) classLoader
+                    .loadClass("sample.SampleParameter_ValidationDescriptor")
+                    .getConstructor()
+                    .newInstance();
+
+            assertThat(descriptor.type()).isSameAs(recordClass);
+            assertThat(descriptor.get(parameter, 0)).isEqualTo("Alice");
+            assertThat(descriptor.withProperty(parameter, 1, 31)).isEqualTo(constructor.newInstance("Alice", 31, null));
+
+            // The descriptor is picked up by the validation tester instead of reflection
+            new TestValidationAssert().of(parameter)
+                    .usingBeanValidation()
+                    .notBlank("name")
+                    .min("age", 1)
+                    .nullable("nickname")
+                    .isCompliant();
+        }
+    }
+
+    @Test
+    void privateRecordsShouldBeRejected() throws Exception {
+        var result = compile(Map.of(
+                "PrivateHolder",
+                """
+                        package sample;
+
+                        import it.aboutbits.springboot.testing.validation.processor.GenerateValidationDescriptor;
+
+                        public class PrivateHolder {
+                            @GenerateValidationDescriptor
+                            private record PrivateParameter(String name) {
+                            }
+                        }
+                        """
+        ));
+
+        assertThat(result.errors()).containsExactly("Cannot generate a validation descriptor for a private record.");
+    }
+
+    private CompilationResult compile(Map<String, String> sources) throws IOException, URISyntaxException {
+        var sourceDirectory = Files.createDirectories(directory.resolve("sources/sample"));
+        var generatedDirectory = Files.createDirectories(directory.resolve("generated"));
+        var classesDirectory = Files.createDirectories(directory.resolve("classes"));
+
+        var sourceFiles = new ArrayList<Path>();
+        for (var source : sources.entrySet()) {
+            sourceFiles.add(Files.writeString(sourceDirectory.resolve(source.getKey() + ".java"), source.getValue()));
+        }
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, List.of(
+                    locationOf(ValidationDescriptor.class),
+                    locationOf(NullMarked.class),
+                    locationOf(NotBlank.class)
+            ));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(generatedDirectory));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classesDirectory));
+
+            var task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    null,
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(sourceFiles)
+            );
+            task.setProcessors(List.of(new ValidationDescriptorProcessor()));
+            task.call();
+        }
+
+        var errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                .toList();
+
+        return new CompilationResult(errors, classesDirectory);
+    }
+
+    private static Path locationOf(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+
+    private record CompilationResult(List<String> errors, Path classes) {
+    }
+
+    private static final class TestValidationAssert extends BaseValidationAssert<TestRuleBuilder> {
+        private TestValidationAssert() {
+            super(new TestRuleBuilder());
+        }
+    }
+
+    private static final class TestRuleBuilder extends BaseRuleBuilder<TestRuleBuilder> {
+    }
+}